@@ -0,0 +1,56 @@
+package software.amazon.sns.subscription;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to pick the client region of a request from its ARNs, next to splitting the ARN on {@code :}. Run with
+ * {@code -prof gc}: the in-place scan should allocate only the returned region string.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArnsBenchmark {
+
+    private final String topicArn = "arn:aws:sns:eu-west-1:123456789012:sns-topic-name";
+    private final String subscriptionArn = "arn:aws:sns:eu-west-1:123456789012:sns-topic-name:3f1e2a5c-8b4d-4e6f-9a0b-1c2d3e4f5a6b";
+    private final ResourceModel topicModel = ResourceModel.builder().topicArn(topicArn).build();
+    private final ResourceModel subscriptionModel = ResourceModel.builder().subscriptionArn(subscriptionArn).build();
+
+    @Benchmark
+    public String regionOfTopicArn() {
+        return Arns.regionOf(topicArn);
+    }
+
+    @Benchmark
+    public String regionOfSubscriptionArn() {
+        return Arns.regionOf(subscriptionArn);
+    }
+
+    @Benchmark
+    public String splitSubscriptionArn() {
+        return subscriptionArn.split(":")[3];
+    }
+
+    @Benchmark
+    public String clientRegionOfTopicModel() {
+        return Arns.clientRegionOf(topicModel);
+    }
+
+    @Benchmark
+    public String clientRegionOfSubscriptionModel() {
+        return Arns.clientRegionOf(subscriptionModel);
+    }
+}
@@ -0,0 +1,76 @@
+package software.amazon.sns.subscription;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to validate filter policies above the key and combination limits but under the size limit, which the
+ * validator has to walk completely before it can reject them. The time should grow linearly as {@code keys} grows by
+ * tenfold steps: one policy has many attribute keys, the other nests the same keys in {@code $or} branches, whose
+ * combination counts saturate instead of multiplying.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterPolicyValidatorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int keys;
+
+    private Map<String, Object> widePolicy;
+    private Map<String, Object> orPolicy;
+
+    @Setup
+    public void setup() {
+        widePolicy = new LinkedHashMap<>();
+        final List<Object> branches = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            final List<Object> values = new ArrayList<>();
+            for (int value = 0; value < 10; value++) {
+                values.add("value-" + value);
+            }
+            widePolicy.put("attribute-" + key, values);
+            branches.add(Collections.singletonMap("attribute-" + key, values));
+        }
+        orPolicy = Collections.singletonMap("$or", branches);
+    }
+
+    @Benchmark
+    public CfnInvalidRequestException validateWidePolicy() {
+        return validate(widePolicy);
+    }
+
+    @Benchmark
+    public CfnInvalidRequestException validateOrPolicy() {
+        return validate(orPolicy);
+    }
+
+    private static CfnInvalidRequestException validate(final Map<String, Object> policy) {
+        try {
+            FilterPolicyValidator.validate(policy);
+            return null;
+        } catch (final CfnInvalidRequestException e) {
+            return e;
+        }
+    }
+}
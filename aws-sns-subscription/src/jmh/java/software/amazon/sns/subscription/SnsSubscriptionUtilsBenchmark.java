@@ -0,0 +1,80 @@
+package software.amazon.sns.subscription;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy conversions per second through the shared codec in {@link SnsSubscriptionUtils}, next to the
+ * ObjectMapper-per-call conversion it replaced, for 1 KB, 64 KB and 256 KB filter policies. Run with {@code -prof gc}
+ * to compare the allocation per conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnsSubscriptionUtilsBenchmark {
+
+    private static final TypeReference<Map<String, Object>> POLICY_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    @Param({"1024", "65536", "262144"})
+    public int policyBytes;
+
+    private String policyJson;
+    private Map<String, Object> policy;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        policy = new LinkedHashMap<>();
+        final StringBuilder json = new StringBuilder();
+        for (int key = 0; json.length() < policyBytes; key++) {
+            final List<Object> values = new ArrayList<>();
+            for (int value = 0; value < 10; value++) {
+                values.add("value-" + key + "-" + value);
+            }
+            policy.put("attribute-" + key, values);
+            json.setLength(0);
+            json.append(new ObjectMapper().writeValueAsString(policy));
+        }
+        policyJson = json.toString();
+    }
+
+    @Benchmark
+    public Map<String, Object> readShared() {
+        return SnsSubscriptionUtils.convertToJson(policyJson);
+    }
+
+    @Benchmark
+    public Map<String, Object> readObjectMapperPerCall() throws JsonProcessingException {
+        return new ObjectMapper().readValue(policyJson, POLICY_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, String> writeShared() {
+        return SnsSubscriptionUtils.getAttributesForUpdate(SubscriptionAttribute.FilterPolicy, null, policy);
+    }
+
+    @Benchmark
+    public String writeObjectMapperPerCall() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsString(policy);
+    }
+}
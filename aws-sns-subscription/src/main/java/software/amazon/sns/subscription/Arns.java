@@ -0,0 +1,51 @@
+package software.amazon.sns.subscription;
+
+/**
+ * Picks the region a request has to be sent to. An explicit Region wins; otherwise the region is taken from the
+ * TopicArn and then from the SubscriptionArn, so that a template pointing at a topic in another region does not send
+ * its calls to the caller's regional endpoint. The ARNs are scanned for their fourth field in place, without splitting
+ * them, since this runs on every request.
+ */
+final class Arns {
+    private static final String ARN_PREFIX = "arn:";
+    private static final int REGION_FIELD = 3;
+
+    private Arns() {
+    }
+
+    /**
+     * @return the region to build the client for, or null to use the default client
+     */
+    static String clientRegionOf(final ResourceModel model) {
+        if (model == null) {
+            return null;
+        }
+        if (model.getRegion() != null) {
+            return model.getRegion();
+        }
+        final String topicRegion = regionOf(model.getTopicArn());
+        return topicRegion != null ? topicRegion : regionOf(model.getSubscriptionArn());
+    }
+
+    /**
+     * @return the region field of an ARN such as {@code arn:aws:sns:us-east-1:123456789012:topic}, or null when the
+     * value is not an ARN or has no region
+     */
+    static String regionOf(final String arn) {
+        if (arn == null || !arn.startsWith(ARN_PREFIX)) {
+            return null;
+        }
+        int start = 0;
+        for (int field = 0; field < REGION_FIELD; field++) {
+            start = arn.indexOf(':', start) + 1;
+            if (start == 0) {
+                return null;
+            }
+        }
+        final int end = arn.indexOf(':', start);
+        if (end <= start) {
+            return null;
+        }
+        return arn.substring(start, end);
+    }
+}
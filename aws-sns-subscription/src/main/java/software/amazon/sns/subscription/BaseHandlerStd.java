@@ -24,10 +24,10 @@ import software.amazon.awssdk.services.sns.model.SubscriptionLimitExceededExcept
 import software.amazon.awssdk.services.sns.model.AuthorizationErrorException;
 import software.amazon.awssdk.services.sns.model.FilterPolicyLimitExceededException;
 import software.amazon.awssdk.services.sns.model.GetSubscriptionAttributesRequest;
-import software.amazon.awssdk.awscore.AwsRequest;
-import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.regions.Region;
 
+import java.util.Set;
+
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   @Override
@@ -37,15 +37,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final CallbackContext callbackContext,
     final Logger logger) {
 
-    return handleRequest(
+    final String clientRegion = Arns.clientRegionOf(request.getDesiredResourceState());
+    final ProgressEvent<ResourceModel, CallbackContext> progress = handleRequest(
       proxy,
       request,
       callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(() -> {return (request.getDesiredResourceState().getRegion() != null) ?
-                           ClientBuilder.getClient(Region.of(request.getDesiredResourceState().getRegion())) :
+      proxy.newProxy(() -> {return (clientRegion != null) ?
+                           ClientBuilder.getClient(Region.of(clientRegion)) :
                            ClientBuilder.getClient();}),
       logger
     );
+    logger.log(ClientBuilder.getPoolStatistics());
+    return progress;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> checkTopicExists(
@@ -147,40 +150,70 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return getTopicAttributesResponse;
   }
 
-  protected boolean checkSubscriptionNotPending(final String subscriptionArn, final ProxyClient<SnsClient> proxyClient, final Logger logger) {
-
-    logger.log("Checking if a subscription is pending.");
-    final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest = GetSubscriptionAttributesRequest.builder()
-                                                                .subscriptionArn(subscriptionArn)
-                                                                .build();
-
-    final GetSubscriptionAttributesResponse getSubscriptionAttributesResponse;
-    getSubscriptionAttributesResponse = readSubscriptionAttributes(getSubscriptionAttributesRequest, proxyClient);
+  /**
+   * Reads the subscription with a single GetSubscriptionAttributes call. The topic is only probed when the
+   * subscription is not found, so that a deleted topic is reported as such instead of as a missing subscription.
+   */
+  protected GetSubscriptionAttributesResponse readSubscriptionOrProbeTopic(
+    final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest,
+    final ProxyClient<SnsClient> proxyClient,
+    final ResourceModel model,
+    final Logger logger) {
 
-    if (getSubscriptionAttributesResponse.hasAttributes() &&
-       getSubscriptionAttributesResponse.attributes().get(Definitions.pendingConfirmation).equals(Definitions.subscriptionNotPending))
-        return true;
+    try {
+      return readSubscriptionAttributes(getSubscriptionAttributesRequest, proxyClient);
+    } catch (final CfnNotFoundException e) {
+      logger.log(String.format("subscription %s not found, checking if topic %s exists", model.getSubscriptionArn(), model.getTopicArn()));
+      retrieveTopicAttributes(Translator.translateToCheckTopicRequest(model), proxyClient);
+      throw e;
+    }
+  }
 
-    return false;
+  protected boolean isSubscriptionNotPending(final GetSubscriptionAttributesResponse getSubscriptionAttributesResponse) {
+    return Definitions.subscriptionNotPending.equals(getSubscriptionAttributesResponse.attributes().get(Definitions.pendingConfirmation));
   }
 
+  /**
+   * Polls the subscription until every attribute written by the plan reads back with its desired value. Each
+   * attribute is logged once with the number of polls and the time it took to show up.
+   */
   protected boolean stabilizeSnsSubscription(
-          final AwsRequest awsRequest,
-          final AwsResponse awsResponse,
           final ProxyClient<SnsClient> proxyClient,
           final ResourceModel model,
-          final CallbackContext callbackContext) {
+          final SubscriptionAttributeUpdatePlan plan,
+          final CallbackContext callbackContext,
+          final Logger logger) {
 
-          try {
-            final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest = GetSubscriptionAttributesRequest.builder()
-                                                                                    .subscriptionArn(model.getSubscriptionArn())
-                                                                                    .build();
+          final long now = System.currentTimeMillis();
+          if (callbackContext.getAttributeStabilizationStartTime() == null) {
+            callbackContext.setAttributeStabilizationStartTime(now);
+          }
+          final long elapsedMillis = now - callbackContext.getAttributeStabilizationStartTime();
+          final int polls = callbackContext.getAttributeStabilizationPolls() + 1;
+          callbackContext.setAttributeStabilizationPolls(polls);
 
-            readSubscriptionAttributes(getSubscriptionAttributesRequest, proxyClient);
+          final GetSubscriptionAttributesResponse getSubscriptionAttributesResponse;
+          try {
+            getSubscriptionAttributesResponse = readSubscriptionAttributes(Translator.translateToReadRequest(model), proxyClient);
           } catch (CfnNotFoundException e) {
             return false;
           }
 
-          return true;
+          final Set<String> propagatedAttributes = callbackContext.getPropagatedAttributes();
+          plan.getAttributes().forEach((subscriptionAttribute, desiredValue) -> {
+            if (!propagatedAttributes.contains(subscriptionAttribute.name()) && SnsSubscriptionUtils.isAttributePropagated(
+                    subscriptionAttribute, desiredValue, getSubscriptionAttributesResponse.attributes().get(subscriptionAttribute.name()))) {
+              propagatedAttributes.add(subscriptionAttribute.name());
+              logger.log(String.format("Attribute %s of subscription %s propagated after %d poll(s) and %d ms",
+                      subscriptionAttribute, model.getSubscriptionArn(), polls, elapsedMillis));
+            }
+          });
+
+          final boolean stabilized = propagatedAttributes.size() == plan.getAttributes().size();
+          if (!stabilized) {
+            logger.log(String.format("Waiting for %d of %d attribute(s) of subscription %s after %d poll(s) and %d ms",
+                    plan.getAttributes().size() - propagatedAttributes.size(), plan.getAttributes().size(), model.getSubscriptionArn(), polls, elapsedMillis));
+          }
+          return stabilized;
   }
 }
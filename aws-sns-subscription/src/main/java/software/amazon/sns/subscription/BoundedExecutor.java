@@ -0,0 +1,72 @@
+package software.amazon.sns.subscription;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Small bounded pool used to send independent SNS calls of one handler invocation at the same time.
+ * The pool lives as long as the container, so warm invocations reuse its threads; idle threads are
+ * released after {@link #KEEP_ALIVE_SECONDS}.
+ * <p>
+ * The handler modules are built on their own and share no code, so aws-sns-topic keeps a copy of this class in
+ * {@code software.amazon.sns.topic.BoundedExecutor}. Keep the two aligned; they only differ in the thread names.
+ */
+final class BoundedExecutor {
+    static final int MAX_CONCURRENCY = 8;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static final ExecutorService EXECUTOR = newExecutor();
+
+    private BoundedExecutor() {
+    }
+
+    static <T> CompletableFuture<T> submit(final Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, EXECUTOR);
+    }
+
+    /**
+     * Blocks until every call has finished, whether it succeeded or not, so that no call is still in
+     * flight once the handler moves on. Failures are surfaced by {@link #join(CompletableFuture)}.
+     */
+    static void awaitAll(final CompletableFuture<?>... calls) {
+        CompletableFuture.allOf(calls).exceptionally(e -> null).join();
+    }
+
+    /**
+     * Returns the result of a call, rethrowing the exception it failed with unchanged so that the
+     * handler error translation keeps working as it does for direct calls.
+     */
+    static <T> T join(final CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static ExecutorService newExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "sns-subscription-call-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENCY, MAX_CONCURRENCY,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -2,10 +2,17 @@ package software.amazon.sns.subscription;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
-
+    private Long attributeStabilizationStartTime;
+    private int attributeStabilizationPolls;
+    private Set<String> propagatedAttributes = new HashSet<>();
+    private Long pendingConfirmationWaitStartTime;
+    private int pendingConfirmationPolls;
 }
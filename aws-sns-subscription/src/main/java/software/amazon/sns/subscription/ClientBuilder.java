@@ -1,22 +1,74 @@
 package software.amazon.sns.subscription;
 
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.SnsClientBuilder;
 import software.amazon.cloudformation.LambdaWrapper;
 import software.amazon.awssdk.regions.Region;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out one SnsClient per region for the lifetime of the container, so warm invocations skip client
+ * construction, endpoint resolution and signer set-up. The clients carry no credentials; those are injected
+ * per request by the proxy, which makes sharing them across invocations safe.
+ */
 public class ClientBuilder {
 
+  private static final String DEFAULT_REGION_KEY = "default";
+
+  private static final Map<String, SnsClient> CLIENTS = new ConcurrentHashMap<>();
+  private static final AtomicLong HITS = new AtomicLong();
+  private static final AtomicLong MISSES = new AtomicLong();
+  private static final AtomicLong CONSTRUCTION_NANOS = new AtomicLong();
+
   public static SnsClient getClient() {
-    return SnsClient.builder()
-    .httpClient(LambdaWrapper.HTTP_CLIENT)
-    .build();
+    return getPooledClient(DEFAULT_REGION_KEY, null);
   }
 
   public static SnsClient getClient(Region region) {
-    return SnsClient.builder()
-    .httpClient(LambdaWrapper.HTTP_CLIENT)
-    .region(region)
-    .build();
+    return getPooledClient(region.id(), region);
+  }
+
+  /**
+   * Pool hits, misses and the total time spent building clients, for the invocation log.
+   */
+  public static String getPoolStatistics() {
+    return String.format("SnsClient pool: %d client(s), %d hit(s), %d miss(es), %d ms spent building clients",
+        CLIENTS.size(), HITS.get(), MISSES.get(), TimeUnit.NANOSECONDS.toMillis(CONSTRUCTION_NANOS.get()));
+  }
+
+  static long getHits() {
+    return HITS.get();
+  }
+
+  static long getMisses() {
+    return MISSES.get();
+  }
+
+  private static SnsClient getPooledClient(final String key, final Region region) {
+    final SnsClient pooled = CLIENTS.get(key);
+    if (pooled != null) {
+      HITS.incrementAndGet();
+      return pooled;
+    }
+    return CLIENTS.computeIfAbsent(key, k -> buildClient(region));
+  }
+
+  private static SnsClient buildClient(final Region region) {
+    MISSES.incrementAndGet();
+    final long start = System.nanoTime();
+    try {
+      final SnsClientBuilder builder = SnsClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT);
+      if (region != null) {
+        builder.region(region);
+      }
+      return builder.build();
+    } finally {
+      CONSTRUCTION_NANOS.addAndGet(System.nanoTime() - start);
+    }
   }
 
 }
@@ -35,6 +35,7 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
+        FilterPolicyValidator.validate(model.getFilterPolicy());
 
         return ProgressEvent.progress(model, callbackContext)
                     .then(progress ->
@@ -5,10 +5,38 @@ import software.amazon.awssdk.services.sns.model.*;
 import software.amazon.cloudformation.exceptions.*;
 import software.amazon.cloudformation.proxy.*;
 
+import java.time.Duration;
+
 
 public class DeleteHandler extends BaseHandlerStd {
+    // A subscription that is pending confirmation cannot be unsubscribed. The public handler fails the delete right
+    // away, since most pending subscriptions (an email or HTTP endpoint torn down right after create) are never
+    // confirmed and waiting would only delay the same failure. With a non-zero budget the handler instead waits for the
+    // confirmation, releasing the worker between polls. The schema has no typeConfiguration to carry that opt-in, so
+    // the wait is off for every stack until one is added.
+    private static final Duration PENDING_CONFIRMATION_INITIAL_DELAY = Duration.ofSeconds(5L);
+    private static final Duration PENDING_CONFIRMATION_MAX_DELAY = Duration.ofSeconds(60L);
+    private static final Duration PENDING_CONFIRMATION_BUDGET = Duration.ZERO;
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration pendingConfirmationBudget;
     private Logger logger;
 
+    public DeleteHandler() {
+        this(PENDING_CONFIRMATION_INITIAL_DELAY, PENDING_CONFIRMATION_MAX_DELAY, PENDING_CONFIRMATION_BUDGET);
+    }
+
+    /**
+     * @param pendingConfirmationBudget how long to wait for a pending subscription to be confirmed before failing the
+     *                                  delete; zero fails it right away, as the public handler does
+     */
+    DeleteHandler(final Duration initialDelay, final Duration maxDelay, final Duration pendingConfirmationBudget) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.pendingConfirmationBudget = pendingConfirmationBudget;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -21,17 +49,18 @@ public class DeleteHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         return ProgressEvent.progress(model, callbackContext)
-                    .then(progress -> checkTopicExists(proxy, proxyClient, model, progress, logger))
-                    .then(progress -> checkSubscriptionExists(proxy, proxyClient, model, progress, logger))
-                    .then(process -> proxy.initiate("AWS-SNS-Subscription::Check-Subscription-Not-Pending", proxyClient, model, callbackContext)
+                    .then(progress -> proxy.initiate("AWS-SNS-Subscription::Check-Subscription-Not-Pending", proxyClient, model, callbackContext)
                         .translateToServiceRequest(Translator::translateToReadRequest)
-                        .makeServiceCall((getSubscriptionAttributesRequest, client) -> {
-                            if (!checkSubscriptionNotPending(model.getSubscriptionArn(), proxyClient, logger))
+                        .makeServiceCall((getSubscriptionAttributesRequest, client) -> readSubscriptionOrProbeTopic(getSubscriptionAttributesRequest, client, model, logger))
+                        .done(getSubscriptionAttributesResponse -> {
+                            if (isSubscriptionNotPending(getSubscriptionAttributesResponse))
+                                return progress;
+
+                            if (pendingConfirmationBudget.isZero())
                                 throw new CfnInvalidRequestException(new Exception(String.format("subscription %s cannot be deleted if pending confirmation", model.getSubscriptionArn())));
 
-                            return true;
-                        })
-                        .progress())
+                            return waitForConfirmation(proxyClient, progress);
+                        }))
                     .then(process -> proxy.initiate("AWS-SNS-Subscription::Unsubscribe", proxyClient, model, callbackContext)
                         .translateToServiceRequest(Translator::translateToDeleteRequest)
                         .makeServiceCall(this::deleteSubscription)
@@ -40,6 +69,42 @@ public class DeleteHandler extends BaseHandlerStd {
                             .build()));
     }
 
+    /**
+     * Returns IN_PROGRESS with an exponentially growing callback delay while the subscription is pending confirmation.
+     * The first check is the memoized Check-Subscription-Not-Pending response, every later one reads the subscription
+     * again. Once {@link #pendingConfirmationBudget} has elapsed the delete fails as it does without waiting.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> waitForConfirmation(
+        final ProxyClient<SnsClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        final long now = System.currentTimeMillis();
+        if (callbackContext.getPendingConfirmationWaitStartTime() == null) {
+            callbackContext.setPendingConfirmationWaitStartTime(now);
+        } else if (isSubscriptionNotPending(readSubscriptionOrProbeTopic(Translator.translateToReadRequest(model), proxyClient, model, logger))) {
+            logger.log(String.format("Subscription %s confirmed after %d poll(s) and %d ms", model.getSubscriptionArn(),
+                callbackContext.getPendingConfirmationPolls(), now - callbackContext.getPendingConfirmationWaitStartTime()));
+            return progress;
+        }
+
+        final long elapsedMillis = now - callbackContext.getPendingConfirmationWaitStartTime();
+        if (elapsedMillis >= pendingConfirmationBudget.toMillis()) {
+            throw new CfnInvalidRequestException(new Exception(String.format("subscription %s cannot be deleted if pending confirmation, still pending after %d ms",
+                model.getSubscriptionArn(), elapsedMillis)));
+        }
+        final int polls = callbackContext.getPendingConfirmationPolls() + 1;
+        callbackContext.setPendingConfirmationPolls(polls);
+        logger.log(String.format("Subscription %s is pending confirmation, checking again after poll %d and %d ms", model.getSubscriptionArn(), polls, elapsedMillis));
+        return ProgressEvent.defaultInProgressHandler(callbackContext, (int) nextDelay(polls).getSeconds(), model);
+    }
+
+    private Duration nextDelay(final int polls) {
+        final Duration delay = initialDelay.multipliedBy(1L << Math.min(polls - 1, 16));
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+
     private Boolean deleteSubscription(
         final UnsubscribeRequest unsubscribeRequest,
         final ProxyClient<SnsClient> proxyClient) {
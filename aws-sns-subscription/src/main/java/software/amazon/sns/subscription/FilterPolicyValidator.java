@@ -0,0 +1,93 @@
+package software.amazon.sns.subscription;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks a FilterPolicy against the SNS filter policy limits before any API call is made, so that a policy the
+ * service would reject fails the handler without paying for a topic probe and a Subscribe or
+ * SetSubscriptionAttributes round trip.
+ * <p>
+ * The policy is walked once. Values of a key multiply the combinations of its siblings, the branches of an
+ * {@code $or} add up, and only keys whose value is not a nested object count towards the key limit.
+ */
+final class FilterPolicyValidator {
+    static final int MAX_KEYS = 5;
+    static final long MAX_COMBINATIONS = 150L;
+    static final int MAX_DEPTH = 5;
+    static final int MAX_SIZE_BYTES = 256 * 1024;
+
+    private static final String OR_OPERATOR = "$or";
+
+    private final Set<String> keys = new HashSet<>();
+    private int depth;
+
+    private FilterPolicyValidator() {
+    }
+
+    static void validate(final Map<String, Object> filterPolicy) {
+        if (filterPolicy == null) {
+            return;
+        }
+
+        final int sizeBytes = SnsSubscriptionUtils.getAttributesForUpdate(SubscriptionAttribute.FilterPolicy, null, filterPolicy)
+                .get(SubscriptionAttribute.FilterPolicy.name()).getBytes(StandardCharsets.UTF_8).length;
+        if (sizeBytes > MAX_SIZE_BYTES) {
+            throw invalid(String.format("is %d bytes, the limit is %d bytes", sizeBytes, MAX_SIZE_BYTES));
+        }
+
+        final FilterPolicyValidator validator = new FilterPolicyValidator();
+        final long combinations = validator.combinations(filterPolicy, "", 1);
+        if (validator.depth > MAX_DEPTH) {
+            throw invalid(String.format("is nested %d levels deep, the limit is %d", validator.depth, MAX_DEPTH));
+        }
+        if (validator.keys.size() > MAX_KEYS) {
+            throw invalid(String.format("has %d keys, the limit is %d", validator.keys.size(), MAX_KEYS));
+        }
+        if (combinations > MAX_COMBINATIONS) {
+            throw invalid(String.format("has more than %d combinations of values", MAX_COMBINATIONS));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private long combinations(final Map<String, Object> policy, final String path, final int level) {
+        depth = Math.max(depth, level);
+        long combinations = 1L;
+        for (final Map.Entry<String, Object> entry : policy.entrySet()) {
+            final Object value = entry.getValue();
+            final long valueCombinations;
+            if (OR_OPERATOR.equals(entry.getKey()) && value instanceof Collection) {
+                long branches = 0L;
+                for (final Object branch : (Collection<Object>) value) {
+                    branches = saturatedAdd(branches, branch instanceof Map ? combinations((Map<String, Object>) branch, path, level) : 1L);
+                }
+                valueCombinations = branches;
+            } else if (value instanceof Map) {
+                valueCombinations = combinations((Map<String, Object>) value, path + entry.getKey() + ".", level + 1);
+            } else {
+                keys.add(path + entry.getKey());
+                valueCombinations = value instanceof Collection ? Math.max(((Collection<Object>) value).size(), 1) : 1L;
+            }
+            combinations = saturatedMultiply(combinations, valueCombinations);
+        }
+        return combinations;
+    }
+
+    // the counts only need to be compared against the limits, so they stop growing just above them
+    private static long saturatedAdd(final long a, final long b) {
+        return Math.min(a + b, MAX_COMBINATIONS + 1);
+    }
+
+    private static long saturatedMultiply(final long a, final long b) {
+        return Math.min(a * b, MAX_COMBINATIONS + 1);
+    }
+
+    private static CfnInvalidRequestException invalid(final String reason) {
+        return new CfnInvalidRequestException(new Exception(String.format("FilterPolicy %s.", reason)));
+    }
+}
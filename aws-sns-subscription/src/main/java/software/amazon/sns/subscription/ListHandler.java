@@ -12,10 +12,14 @@ import software.amazon.awssdk.services.sns.model.FilterPolicyLimitExceededExcept
 import software.amazon.awssdk.services.sns.model.InternalErrorException;
 import software.amazon.awssdk.services.sns.model.InvalidParameterException;
 import software.amazon.awssdk.services.sns.model.InvalidSecurityException;
-import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicRequest;
 import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicResponse;
+import software.amazon.awssdk.services.sns.model.ListSubscriptionsResponse;
 import software.amazon.awssdk.services.sns.model.NotFoundException;
+import software.amazon.awssdk.services.sns.model.SnsRequest;
+import software.amazon.awssdk.services.sns.model.SnsResponse;
 import software.amazon.awssdk.services.sns.model.SubscriptionLimitExceededException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidCredentialsException;
@@ -24,9 +28,28 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandlerStd {
 
+    private final boolean hydrate;
+
+    public ListHandler() {
+        this(true);
+    }
+
+    /**
+     * @param hydrate whether every subscription on the page is read with GetSubscriptionAttributes, so that the
+     *                returned models are as complete as a Read; otherwise only protocol, topic and subscription ARN
+     *                from ListSubscriptionsByTopic are returned
+     */
+    ListHandler(final boolean hydrate) {
+        this.hydrate = hydrate;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -35,13 +58,38 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<SnsClient> proxyClient,
         final Logger logger) {
 
-        retrieveTopicAttributes(Translator.translateToCheckTopicRequest(request.getDesiredResourceState()), proxyClient);
-        final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest = Translator.translateToListSubscriptionsByTopicRequest(request);
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final List<ResourceModel> listedModels;
+        final String nextToken;
+        if (desiredModel == null || desiredModel.getTopicArn() == null) {
+            // account-wide scan, there is no topic to probe
+            final ListSubscriptionsResponse listSubscriptionsResponse = invokeList(proxy,
+                    Translator.translateToListSubscriptionsRequest(request.getNextToken()), proxyClient.client()::listSubscriptions);
+            listedModels = Translator.translateFromListRequest(listSubscriptionsResponse);
+            nextToken = listSubscriptionsResponse.nextToken();
+        } else {
+            retrieveTopicAttributes(Translator.translateToCheckTopicRequest(desiredModel), proxyClient);
+            final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse = invokeList(proxy,
+                    Translator.translateToListSubscriptionsByTopicRequest(request), proxyClient.client()::listSubscriptionsByTopic);
+            listedModels = Translator.translateFromListRequest(listSubscriptionsByTopicResponse);
+            nextToken = listSubscriptionsByTopicResponse.nextToken();
+        }
+        final List<ResourceModel> models = hydrate ? hydrateModels(listedModels, proxyClient, logger) : listedModels;
 
-        final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse;
-        try {
-               listSubscriptionsByTopicResponse = proxy.injectCredentialsAndInvokeV2(listSubscriptionsByTopicRequest, proxyClient.client()::listSubscriptionsByTopic);
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(nextToken)
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    private <RequestT extends SnsRequest, ResponseT extends SnsResponse> ResponseT invokeList(
+        final AmazonWebServicesClientProxy proxy,
+        final RequestT listRequest,
+        final Function<RequestT, ResponseT> listCall) {
 
+        try {
+            return proxy.injectCredentialsAndInvokeV2(listRequest, listCall);
         } catch (final SubscriptionLimitExceededException e) {
             throw new CfnServiceLimitExceededException(e);
         } catch (final FilterPolicyLimitExceededException e) {
@@ -57,12 +105,44 @@ public class ListHandler extends BaseHandlerStd {
         } catch (final InvalidSecurityException e) {
             throw new CfnInvalidCredentialsException(e);
         }
-        final List<ResourceModel> models = Translator.translateFromListRequest(listSubscriptionsByTopicResponse);
+    }
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(models)
-                .nextToken(listSubscriptionsByTopicResponse.nextToken())
-                .status(OperationStatus.SUCCESS)
-                .build();
+    /**
+     * Reads the attributes of every subscription on the page at the same time, bounded by
+     * {@link BoundedExecutor#MAX_CONCURRENCY}, so a page costs about one GetSubscriptionAttributes latency. A
+     * subscription that is gone by now is left out instead of probing its topic again, and a subscription that is still pending confirmation has no ARN to read and is returned as listed.
+     * Any other failed read, such as a throttled call, returns that entry as listed too, so one bad read does not fail
+     * the whole page; missing permissions or credentials still fail it.
+     */
+    private List<ResourceModel> hydrateModels(final List<ResourceModel> listedModels, final ProxyClient<SnsClient> proxyClient, final Logger logger) {
+        final List<CompletableFuture<ResourceModel>> reads = listedModels.stream()
+                .map(listedModel -> BoundedExecutor.submit(() -> hydrateModel(listedModel, proxyClient, logger)))
+                .collect(Collectors.toList());
+        BoundedExecutor.awaitAll(reads.toArray(new CompletableFuture<?>[0]));
+
+        final List<ResourceModel> models = reads.stream()
+                .map(BoundedExecutor::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        logger.log(String.format("Hydrated %d of %d listed subscription(s)", models.size(), listedModels.size()));
+        return models;
+    }
+
+    private ResourceModel hydrateModel(final ResourceModel listedModel, final ProxyClient<SnsClient> proxyClient, final Logger logger) {
+        if (Definitions.pendingConfirmation.equals(listedModel.getSubscriptionArn())) {
+            return listedModel;
+        }
+        try {
+            return Translator.translateFromReadResponse(readSubscriptionAttributes(Translator.translateToReadRequest(listedModel), proxyClient));
+        } catch (final CfnNotFoundException e) {
+            return null;
+        } catch (final CfnAccessDeniedException | CfnInvalidCredentialsException e) {
+            // every other read on the page would fail the same way
+            throw e;
+        } catch (final BaseHandlerException | SdkException e) {
+            logger.log(String.format("Could not read subscription %s, returning it as listed: %s",
+                    listedModel.getSubscriptionArn(), e.getMessage()));
+            return listedModel;
+        }
     }
 }
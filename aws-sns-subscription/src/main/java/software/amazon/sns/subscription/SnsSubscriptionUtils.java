@@ -3,21 +3,33 @@ package software.amazon.sns.subscription;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 public final class SnsSubscriptionUtils {
 
+    // ObjectReader and ObjectWriter are immutable and thread-safe, so one pair serves every conversion in the container
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader POLICY_READER = OBJECT_MAPPER.readerFor(new TypeReference<Map<String, Object>>() {});
+    private static final ObjectWriter POLICY_WRITER = OBJECT_MAPPER.writerFor(new TypeReference<Map<String, Object>>() {});
+
+    private static final Set<SubscriptionAttribute> JSON_ATTRIBUTES = EnumSet.of(
+            SubscriptionAttribute.DeliveryPolicy, SubscriptionAttribute.FilterPolicy, SubscriptionAttribute.RedrivePolicy);
+
     public static Map<String,Object> convertToJson(String jsonString) {
-        final ObjectMapper objectMapper = new ObjectMapper();
         Map<String, Object> attribute = null;
 
         if (jsonString != null) {
             try {
-                attribute = objectMapper.readValue(jsonString, new TypeReference<Map<String, Object>>() {});
+                attribute = POLICY_READER.readValue(jsonString);
             } catch (Exception e) {
                 throw new CfnInvalidRequestException(e);
             }
@@ -27,11 +39,10 @@ public final class SnsSubscriptionUtils {
     }
 
     private static String convertJsonObjectToString(final Map<String,Object> objectMap) {
-        final ObjectMapper objectMapper = new ObjectMapper();
         String val = "";
         if (objectMap != null) {
             try {
-                val = objectMapper.writeValueAsString(objectMap);
+                val = POLICY_WRITER.writeValueAsString(objectMap);
 
             } catch(JsonProcessingException e) {
                 throw new CfnInvalidRequestException(e);
@@ -50,6 +61,36 @@ public final class SnsSubscriptionUtils {
         return attributeMap;
     }
 
+    /**
+     * Whether a value read back from SNS shows the desired value of a write. An empty desired value means the
+     * attribute was removed. SNS may add defaults to a JSON policy, so a policy has propagated once every field of the
+     * desired policy is present in the one read back.
+     */
+    public static boolean isAttributePropagated(final SubscriptionAttribute subscriptionAttribute, final String desiredValue, final String actualValue) {
+        if (StringUtils.isEmpty(desiredValue) || StringUtils.isEmpty(actualValue)) {
+            return StringUtils.isEmpty(desiredValue) && StringUtils.isEmpty(actualValue);
+        }
+        if (JSON_ATTRIBUTES.contains(subscriptionAttribute)) {
+            return containsAll(convertToJson(actualValue), convertToJson(desiredValue));
+        }
+        return desiredValue.equals(actualValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean containsAll(final Map<String, Object> actual, final Map<String, Object> desired) {
+        for (final Map.Entry<String, Object> entry : desired.entrySet()) {
+            final Object actualValue = actual.get(entry.getKey());
+            if (entry.getValue() instanceof Map && actualValue instanceof Map) {
+                if (!containsAll((Map<String, Object>) actualValue, (Map<String, Object>) entry.getValue())) {
+                    return false;
+                }
+            } else if (!Objects.equals(entry.getValue(), actualValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static Map<String,String> getAttributesForCreate(final ResourceModel currentmodel) {
         final Map<String,String> attributeMap = Maps.newHashMap();
 
@@ -0,0 +1,47 @@
+package software.amazon.sns.subscription;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Capped exponential backoff with equal jitter for attribute stabilization. The budget is spent on the nominal,
+ * un-jittered delays, so it does not depend on the random draws; once the next delay would exceed it,
+ * {@link Duration#ZERO} is returned and the proxy fails the stabilization as NotStabilized.
+ */
+final class StabilizationDelay implements Delay {
+    static final StabilizationDelay DEFAULT = new StabilizationDelay(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(2));
+
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration budget;
+
+    StabilizationDelay(final Duration baseDelay, final Duration maxDelay, final Duration budget) {
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.budget = budget;
+    }
+
+    /**
+     * @param attempt one-based number of polls that did not see the written values yet
+     */
+    @Override
+    public Duration nextDelay(final int attempt) {
+        long spentMillis = 0L;
+        for (int previous = 1; previous < attempt; previous++) {
+            spentMillis += nominalDelayMillis(previous);
+        }
+        final long nominalMillis = nominalDelayMillis(attempt);
+        if (spentMillis + nominalMillis > budget.toMillis()) {
+            return Duration.ZERO;
+        }
+        final long halfMillis = nominalMillis / 2;
+        return Duration.ofMillis(halfMillis + 1 + ThreadLocalRandom.current().nextLong(nominalMillis - halfMillis));
+    }
+
+    private long nominalDelayMillis(final int attempt) {
+        final long delay = baseDelay.toMillis() << Math.min(Math.max(attempt - 1, 0), 16);
+        return Math.min(delay, maxDelay.toMillis());
+    }
+}
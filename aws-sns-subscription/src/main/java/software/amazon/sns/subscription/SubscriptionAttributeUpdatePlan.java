@@ -0,0 +1,69 @@
+package software.amazon.sns.subscription;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Attribute writes needed to move a subscription from the previous to the desired model, computed once per Update.
+ * SetSubscriptionAttributes takes one attribute per call, so every changed attribute costs one call; attributes that
+ * did not change are left out. The writes are stabilized once, after the last of them.
+ */
+final class SubscriptionAttributeUpdatePlan {
+    private final Map<SubscriptionAttribute, String> attributes;
+
+    private SubscriptionAttributeUpdatePlan(final Map<SubscriptionAttribute, String> attributes) {
+        this.attributes = attributes;
+    }
+
+    static SubscriptionAttributeUpdatePlan between(final ResourceModel previousModel, final ResourceModel model) {
+        final Map<SubscriptionAttribute, String> attributes = new LinkedHashMap<>();
+
+        putIfChanged(attributes, SubscriptionAttribute.FilterPolicy, previousModel.getFilterPolicy(), model.getFilterPolicy());
+        putIfChanged(attributes, SubscriptionAttribute.DeliveryPolicy, previousModel.getDeliveryPolicy(), model.getDeliveryPolicy());
+        putIfChanged(attributes, SubscriptionAttribute.RedrivePolicy, previousModel.getRedrivePolicy(), model.getRedrivePolicy());
+
+        // a RawMessageDelivery that was never set is left alone, since not every protocol supports it
+        final Boolean desiredRawMessageDelivery = model.getRawMessageDelivery() != null ? model.getRawMessageDelivery() : Boolean.FALSE;
+        if (previousModel.getRawMessageDelivery() != null && !desiredRawMessageDelivery.equals(previousModel.getRawMessageDelivery())) {
+            attributes.put(SubscriptionAttribute.RawMessageDelivery, desiredRawMessageDelivery.toString());
+        }
+
+        if (!StringUtils.equals(previousModel.getSubscriptionRoleArn(), model.getSubscriptionRoleArn())) {
+            put(attributes, SnsSubscriptionUtils.getAttributesForUpdate(SubscriptionAttribute.SubscriptionRoleArn,
+                    previousModel.getSubscriptionRoleArn(), model.getSubscriptionRoleArn()));
+        }
+
+        return new SubscriptionAttributeUpdatePlan(attributes);
+    }
+
+    private static void putIfChanged(final Map<SubscriptionAttribute, String> attributes, final SubscriptionAttribute subscriptionAttribute,
+                                     final Map<String, Object> previousPolicy, final Map<String, Object> desiredPolicy) {
+        if (!Objects.equals(desiredPolicy, previousPolicy)) {
+            put(attributes, SnsSubscriptionUtils.getAttributesForUpdate(subscriptionAttribute, previousPolicy, desiredPolicy));
+        }
+    }
+
+    private static void put(final Map<SubscriptionAttribute, String> attributes, final Map<String, String> changed) {
+        changed.forEach((name, value) -> attributes.put(SubscriptionAttribute.valueOf(name), value));
+    }
+
+    /**
+     * Changed attributes and their desired values, in the order they are written. An empty value removes the attribute.
+     */
+    Map<SubscriptionAttribute, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    boolean isEmpty() {
+        return attributes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SetSubscriptionAttributes%s, ApiCalls: %d", attributes.keySet(), attributes.size());
+    }
+}
@@ -58,25 +58,14 @@ public class Translator {
         .build();
   }
 
-  static SetSubscriptionAttributesRequest translateToUpdateRequest(final SubscriptionAttribute subscriptionAttribute, final ResourceModel currentModel, final Map<String, Object> previousPolicy, final Map<String, Object> desiredPolicy) {
-    Map<String, String> mapAttributes = SnsSubscriptionUtils.getAttributesForUpdate(subscriptionAttribute, previousPolicy, desiredPolicy);
-    SetSubscriptionAttributesRequest.Builder builder = SetSubscriptionAttributesRequest.builder().subscriptionArn(currentModel.getSubscriptionArn());
-    mapAttributes.forEach((name, value) -> builder.attributeName(name).attributeValue(value));
-    return builder.build();
-  }
-
-  static SetSubscriptionAttributesRequest translateToUpdateRequest(final SubscriptionAttribute subscriptionAttribute, final ResourceModel currentModel, final String previousValue, final String desiredValue) {
-    Map<String, String> mapAttributes = SnsSubscriptionUtils.getAttributesForUpdate(subscriptionAttribute, previousValue, desiredValue);
-    SetSubscriptionAttributesRequest.Builder builder = SetSubscriptionAttributesRequest.builder().subscriptionArn(currentModel.getSubscriptionArn());
-    mapAttributes.forEach((name, value) -> builder.attributeName(name).attributeValue(value));
-    return builder.build();
-  }
-
-  static SetSubscriptionAttributesRequest translateToUpdateRequest(final SubscriptionAttribute subscriptionAttribute, final ResourceModel currentModel, final Boolean previousValue, final Boolean desiredValue) {
-    final String previousVal = Boolean.valueOf(String.valueOf(previousValue)).toString();
-    final String currentVal = Boolean.valueOf(String.valueOf(desiredValue)).toString();
-
-    return translateToUpdateRequest(subscriptionAttribute, currentModel, previousVal, currentVal);
+  static List<SetSubscriptionAttributesRequest> translateToUpdateRequests(final SubscriptionAttributeUpdatePlan plan, final ResourceModel currentModel) {
+    return plan.getAttributes().entrySet().stream()
+        .map(attribute -> SetSubscriptionAttributesRequest.builder()
+            .subscriptionArn(currentModel.getSubscriptionArn())
+            .attributeName(attribute.getKey().name())
+            .attributeValue(attribute.getValue())
+            .build())
+        .collect(Collectors.toList());
   }
 
   private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
@@ -87,10 +76,24 @@ public class Translator {
 
 
   static List<ResourceModel>  translateFromListRequest(final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse) {
-    return streamOfOrEmpty(listSubscriptionsByTopicResponse.subscriptions()).map(subscription ->
+    return translateFromSubscriptions(listSubscriptionsByTopicResponse.subscriptions());
+   }
+
+  static List<ResourceModel> translateFromListRequest(final ListSubscriptionsResponse listSubscriptionsResponse) {
+    return translateFromSubscriptions(listSubscriptionsResponse.subscriptions());
+  }
+
+  private static List<ResourceModel> translateFromSubscriptions(final List<Subscription> subscriptions) {
+    return streamOfOrEmpty(subscriptions).map(subscription ->
       ResourceModel.builder().protocol(subscription.protocol()).topicArn(subscription.topicArn()).subscriptionArn(subscription.subscriptionArn()).build())
       .collect(Collectors.toList());
-   }
+  }
+
+  static ListSubscriptionsRequest translateToListSubscriptionsRequest(final String nextToken) {
+      return ListSubscriptionsRequest.builder()
+              .nextToken(nextToken)
+              .build();
+  }
 
   static ListSubscriptionsByTopicRequest translateToListSubscriptionsByTopicRequest(final ResourceHandlerRequest<ResourceModel> request) {
       return ListSubscriptionsByTopicRequest.builder()
@@ -7,12 +7,23 @@ import software.amazon.awssdk.services.sns.model.*;
 import software.amazon.cloudformation.exceptions.*;
 import software.amazon.cloudformation.proxy.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private final StabilizationDelay stabilizationDelay;
     private Logger logger;
 
+    public UpdateHandler() {
+        this(StabilizationDelay.DEFAULT);
+    }
+
+    UpdateHandler(final StabilizationDelay stabilizationDelay) {
+        this.stabilizationDelay = stabilizationDelay;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -25,36 +36,70 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel currentModel = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
 
+        final SubscriptionAttributeUpdatePlan attributeUpdatePlan = SubscriptionAttributeUpdatePlan.between(previousModel, currentModel);
+        if (attributeUpdatePlan.getAttributes().containsKey(SubscriptionAttribute.FilterPolicy)) {
+            FilterPolicyValidator.validate(currentModel.getFilterPolicy());
+        }
+        logger.log(String.format("Update plan for subscription %s: %s", currentModel.getSubscriptionArn(), attributeUpdatePlan));
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> checkTopicExists(proxy, proxyClient, currentModel, progress, logger))
             .then(progress -> checkSubscriptionExists(proxy, proxyClient, previousModel, progress, logger))
             .then(progress -> validateCreateOnlyProperties(previousModel, currentModel, progress))
-            .then(progress -> modifyPolicy(proxy, proxyClient, currentModel.getFilterPolicy(), currentModel, SubscriptionAttribute.FilterPolicy, previousModel.getFilterPolicy(), progress, logger))
-            .then(progress -> modifyPolicy(proxy, proxyClient, currentModel.getDeliveryPolicy(), currentModel, SubscriptionAttribute.DeliveryPolicy,previousModel.getDeliveryPolicy(), progress, logger))
-            .then(progress -> modifyPolicy(proxy, proxyClient, currentModel.getRedrivePolicy(), currentModel, SubscriptionAttribute.RedrivePolicy,previousModel.getRedrivePolicy(), progress, logger))
-            .then(progress -> modifyRawMessageDelivery(proxy, proxyClient, currentModel.getRawMessageDelivery(), currentModel, SubscriptionAttribute.RawMessageDelivery,previousModel.getRawMessageDelivery(), progress, logger))
-            .then(progress -> modifySubscriptionRoleArn(proxy, proxyClient, currentModel.getSubscriptionRoleArn(), currentModel, SubscriptionAttribute.SubscriptionRoleArn, previousModel.getSubscriptionRoleArn(), progress, logger))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> updateAttributes(proxy, proxyClient, currentModel, attributeUpdatePlan, progress))
+            .then(progress -> buildUpdatedModel(proxyClient, currentModel, attributeUpdatePlan, progress.getCallbackContext()));
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> modifySubscriptionRoleArn(
-            AmazonWebServicesClientProxy proxy,
-            ProxyClient<SnsClient> proxyClient,
-            String desiredSubscriptionRoleArn,
-            ResourceModel currentModel,
-            SubscriptionAttribute subscriptionAttribute,
-            String previousSubscriptionRoleArn,
-            ProgressEvent<ResourceModel, CallbackContext> progress,
-            Logger logger) {
-
-        if (StringUtils.equals(desiredSubscriptionRoleArn, previousSubscriptionRoleArn)) {
+    /**
+     * Builds the returned model from the subscription attributes read by the existence check and the values this
+     * update wrote instead of running the whole Read handler again. SNS may fill in defaults in a DeliveryPolicy,
+     * so the attributes are read once more, but only when this update wrote one.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> buildUpdatedModel(
+            final ProxyClient<SnsClient> proxyClient,
+            final ResourceModel currentModel,
+            final SubscriptionAttributeUpdatePlan plan,
+            final CallbackContext callbackContext) {
+
+        if (plan.getAttributes().containsKey(SubscriptionAttribute.DeliveryPolicy)) {
+            final GetSubscriptionAttributesResponse getSubscriptionAttributesResponse = readSubscriptionAttributes(Translator.translateToReadRequest(currentModel), proxyClient);
+            return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(getSubscriptionAttributesResponse));
+        }
+
+        final GetSubscriptionAttributesResponse existenceCheckResponse = callbackContext.findFirstResponseByContains("AWS-SNS-Subscription::CheckSubscriptionExists");
+        final Map<String, String> attributes = new HashMap<>(existenceCheckResponse.attributes());
+        plan.getAttributes().forEach((name, value) -> {
+            if (StringUtils.isEmpty(value)) {
+                attributes.remove(name.name());
+            } else {
+                attributes.put(name.name(), value);
+            }
+        });
+        return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(
+                GetSubscriptionAttributesResponse.builder().attributes(attributes).build()));
+    }
+
+    /**
+     * Sends the writes of the plan one after another and stabilizes once, after the last of them, backing off
+     * with {@link StabilizationDelay} until every written value reads back.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updateAttributes(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<SnsClient> proxyClient,
+            final ResourceModel currentModel,
+            final SubscriptionAttributeUpdatePlan plan,
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+
+        if (plan.isEmpty()) {
             return progress;
         }
 
-        return proxy.initiate("AWS-SNS-Subscription::SubscriptionRoleArn", proxyClient, currentModel, progress.getCallbackContext())
-                .translateToServiceRequest((resouceModel) -> Translator.translateToUpdateRequest(subscriptionAttribute, resouceModel, previousSubscriptionRoleArn, desiredSubscriptionRoleArn))
+        return proxy.initiate("AWS-SNS-Subscription::UpdateAttributes", proxyClient, currentModel, progress.getCallbackContext())
+                .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequests(plan, resourceModel))
+                .backoffDelay(stabilizationDelay)
                 .makeServiceCall(this::updateSubscription)
-                .stabilize(this::stabilizeSnsSubscription)
+                .stabilize((setSubscriptionAttributesRequests, setSubscriptionAttributesResponses, client, resourceModel, context) ->
+                        stabilizeSnsSubscription(client, resourceModel, plan, context, logger))
                 .progress();
     }
 
@@ -84,51 +129,16 @@ public class UpdateHandler extends BaseHandlerStd {
         return StringUtils.equals(value1, value2);
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> modifyRawMessageDelivery(
-        AmazonWebServicesClientProxy proxy,
-        ProxyClient<SnsClient> proxyClient,
-        Boolean rawMessageDelivery,
-        ResourceModel model,
-        SubscriptionAttribute subscriptionAttribute,
-        Boolean previousRawMessageDelivery,
-        ProgressEvent<ResourceModel, CallbackContext> progress,
-        Logger logger) {
-
-        final Boolean desiredRawMessageDelivery = rawMessageDelivery != null ? rawMessageDelivery : Boolean.FALSE;
-        if (previousRawMessageDelivery == null || desiredRawMessageDelivery.equals(previousRawMessageDelivery)) {
-            return progress;
-        }
+    private List<SetSubscriptionAttributesResponse> updateSubscription(
+        final List<SetSubscriptionAttributesRequest> setSubscriptionAttributesRequests,
+        final ProxyClient<SnsClient> proxyClient) {
 
-        return proxy.initiate("AWS-SNS-Subscription::RawMessageDelivery", proxyClient, model, progress.getCallbackContext())
-                .translateToServiceRequest((resouceModel) -> Translator.translateToUpdateRequest(subscriptionAttribute, resouceModel, previousRawMessageDelivery, desiredRawMessageDelivery))
-                .makeServiceCall(this::updateSubscription)
-                .stabilize(this::stabilizeSnsSubscription)
-                .progress();
-
-    }
-
-
-    protected ProgressEvent<ResourceModel, CallbackContext> modifyPolicy(
-        AmazonWebServicesClientProxy proxy,
-        ProxyClient<SnsClient> proxyClient,
-        Map<String, Object> desiredPolicy,
-        ResourceModel model,
-        SubscriptionAttribute subscriptionAttribute,
-        Map<String, Object> previousPolicy,
-        ProgressEvent<ResourceModel, CallbackContext> progress,
-        Logger logger) {
-
-        if (Objects.equals(desiredPolicy,previousPolicy)) {
-            return progress;
+        final List<SetSubscriptionAttributesResponse> setSubscriptionAttributesResponses = new ArrayList<>();
+        for (final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest : setSubscriptionAttributesRequests) {
+            setSubscriptionAttributesResponses.add(updateSubscription(setSubscriptionAttributesRequest, proxyClient));
         }
-
-        return proxy.initiate("AWS-SNS-Subscription::"+subscriptionAttribute.name(), proxyClient, model, progress.getCallbackContext())
-                .translateToServiceRequest((resouceModel) -> Translator.translateToUpdateRequest(subscriptionAttribute, resouceModel, previousPolicy, desiredPolicy))
-                .makeServiceCall(this::updateSubscription)
-                .stabilize(this::stabilizeSnsSubscription)
-                .progress();
-
-      }
+        return setSubscriptionAttributesResponses;
+    }
 
     private SetSubscriptionAttributesResponse updateSubscription(
         final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest,
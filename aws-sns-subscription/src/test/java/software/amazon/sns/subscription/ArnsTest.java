@@ -0,0 +1,38 @@
+package software.amazon.sns.subscription;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArnsTest {
+
+    private static final String TOPIC_ARN = "arn:aws:sns:eu-west-1:123456789012:topic";
+    private static final String SUBSCRIPTION_ARN = "arn:aws-cn:sns:cn-north-1:123456789012:topic:6f2b8c44-1b8e-4a56-9d4a-0a0b2c3d4e5f";
+
+    @Test
+    public void testRegionOf() {
+        assertThat(Arns.regionOf(TOPIC_ARN)).isEqualTo("eu-west-1");
+        assertThat(Arns.regionOf(SUBSCRIPTION_ARN)).isEqualTo("cn-north-1");
+        assertThat(Arns.regionOf("arn:aws:sns:us-gov-west-1:123456789012")).isEqualTo("us-gov-west-1");
+    }
+
+    @Test
+    public void testRegionOfNotAnArn() {
+        assertThat(Arns.regionOf(null)).isNull();
+        assertThat(Arns.regionOf("")).isNull();
+        assertThat(Arns.regionOf("PendingConfirmation")).isNull();
+        assertThat(Arns.regionOf("topicArn")).isNull();
+        assertThat(Arns.regionOf("arn:aws:sns")).isNull();
+        assertThat(Arns.regionOf("arn:aws:sns:us-east-1")).isNull();
+        assertThat(Arns.regionOf("arn:aws:iam::123456789012:role/role")).isNull();
+    }
+
+    @Test
+    public void testClientRegionOf() {
+        assertThat(Arns.clientRegionOf(null)).isNull();
+        assertThat(Arns.clientRegionOf(ResourceModel.builder().build())).isNull();
+        assertThat(Arns.clientRegionOf(ResourceModel.builder().region("us-west-2").topicArn(TOPIC_ARN).build())).isEqualTo("us-west-2");
+        assertThat(Arns.clientRegionOf(ResourceModel.builder().topicArn(TOPIC_ARN).subscriptionArn(SUBSCRIPTION_ARN).build())).isEqualTo("eu-west-1");
+        assertThat(Arns.clientRegionOf(ResourceModel.builder().topicArn("topicArn").subscriptionArn(SUBSCRIPTION_ARN).build())).isEqualTo("cn-north-1");
+    }
+}
@@ -0,0 +1,32 @@
+package software.amazon.sns.subscription;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+
+    @Test
+    public void testGetClientReusesClientPerRegion() {
+        final SnsClient first = ClientBuilder.getClient(Region.EU_WEST_3);
+        final long hits = ClientBuilder.getHits();
+        final long misses = ClientBuilder.getMisses();
+
+        final SnsClient second = ClientBuilder.getClient(Region.EU_WEST_3);
+
+        assertThat(second).isSameAs(first);
+        assertThat(ClientBuilder.getHits()).isEqualTo(hits + 1);
+        assertThat(ClientBuilder.getMisses()).isEqualTo(misses);
+    }
+
+    @Test
+    public void testGetClientBuildsOneClientPerRegion() {
+        final SnsClient first = ClientBuilder.getClient(Region.AP_SOUTHEAST_2);
+        final SnsClient second = ClientBuilder.getClient(Region.SA_EAST_1);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(ClientBuilder.getPoolStatistics()).startsWith("SnsClient pool: ");
+    }
+}
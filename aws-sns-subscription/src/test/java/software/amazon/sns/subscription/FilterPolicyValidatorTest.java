@@ -0,0 +1,93 @@
+package software.amazon.sns.subscription;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FilterPolicyValidatorTest {
+
+    @Test
+    public void testValidPolicy() {
+        final Map<String, Object> filterPolicy = new HashMap<>();
+        filterPolicy.put("store", Arrays.asList("example_corp", "other_corp"));
+        filterPolicy.put("price_usd", Collections.singletonList(Collections.singletonMap("numeric", Arrays.asList(">=", 100))));
+        filterPolicy.put("customer", Collections.singletonMap("interests", Arrays.asList("rugby", "football")));
+
+        assertDoesNotThrow(() -> FilterPolicyValidator.validate(filterPolicy));
+        assertDoesNotThrow(() -> FilterPolicyValidator.validate(null));
+    }
+
+    @Test
+    public void testTooManyKeys() {
+        final Map<String, Object> filterPolicy = new HashMap<>();
+        for (int i = 0; i <= FilterPolicyValidator.MAX_KEYS; i++) {
+            filterPolicy.put("key" + i, Collections.singletonList("value"));
+        }
+
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class, () -> FilterPolicyValidator.validate(filterPolicy));
+
+        assertThat(exception.getMessage()).contains("has 6 keys");
+    }
+
+    @Test
+    public void testTooManyCombinations() {
+        final List<Object> values = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l", "m");
+        final Map<String, Object> filterPolicy = new HashMap<>();
+        filterPolicy.put("key1", values);
+        filterPolicy.put("key2", values);
+
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class, () -> FilterPolicyValidator.validate(filterPolicy));
+
+        assertThat(exception.getMessage()).contains("combinations");
+    }
+
+    @Test
+    public void testOrBranchesAddUp() {
+        final List<Object> values = Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j");
+        final Map<String, Object> branch = new HashMap<>();
+        branch.put("key1", values);
+        branch.put("key2", values);
+
+        final Map<String, Object> filterPolicy = new HashMap<>();
+        filterPolicy.put("$or", Arrays.asList(branch, branch));
+
+        // two branches of 10 x 10 combinations each
+        assertThrows(CfnInvalidRequestException.class, () -> FilterPolicyValidator.validate(filterPolicy));
+
+        filterPolicy.put("$or", Arrays.asList(Collections.singletonMap("key1", values), Collections.singletonMap("key2", values)));
+        assertDoesNotThrow(() -> FilterPolicyValidator.validate(filterPolicy));
+    }
+
+    @Test
+    public void testTooDeep() {
+        Map<String, Object> filterPolicy = Collections.singletonMap("leaf", Collections.singletonList("value"));
+        for (int i = 0; i < FilterPolicyValidator.MAX_DEPTH; i++) {
+            filterPolicy = Collections.singletonMap("level" + i, filterPolicy);
+        }
+        final Map<String, Object> tooDeep = filterPolicy;
+
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class, () -> FilterPolicyValidator.validate(tooDeep));
+
+        assertThat(exception.getMessage()).contains("nested 6 levels deep");
+    }
+
+    @Test
+    public void testTooLarge() {
+        final char[] value = new char[FilterPolicyValidator.MAX_SIZE_BYTES];
+        Arrays.fill(value, 'a');
+        final Map<String, Object> filterPolicy = Collections.singletonMap("key", Collections.singletonList(new String(value)));
+
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class, () -> FilterPolicyValidator.validate(filterPolicy));
+
+        assertThat(exception.getMessage()).contains("bytes");
+    }
+}
@@ -39,7 +39,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
     @BeforeEach
     public void setup() {
-        handler = new ListHandler();
+        handler = new ListHandler(false);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         snsClient = mock(SnsClient.class);
         proxyClient = MOCK_PROXY(proxy, snsClient);
@@ -171,6 +171,202 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
     }
 
+    @Test
+    public void handleRequest_Hydrated() {
+        final List<Subscription> listSubscriptions = new ArrayList<>();
+        listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("arn1").build());
+        listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("PendingConfirmation").build());
+        listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("deletedArn").build());
+
+        setupGetTopicAttributeMock();
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder().subscriptions(listSubscriptions).nextToken("nextToken").build());
+
+        final Map<String, String> subscriptionAttributes = new HashMap<>(attributes);
+        subscriptionAttributes.put("SubscriptionArn", "arn1");
+        subscriptionAttributes.put("FilterPolicy", "{\"store\":[\"example_corp\"]}");
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    if ("deletedArn".equals(invocation.<GetSubscriptionAttributesRequest>getArgument(0).subscriptionArn())) {
+                        throw NotFoundException.builder().build();
+                    }
+                    return GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                .desiredResourceState(model)
+                                                                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("nextToken");
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getSubscriptionArn()).isEqualTo("arn1");
+        assertThat(response.getResourceModels().get(0).getEndpoint()).isEqualTo("end1");
+        assertThat(response.getResourceModels().get(0).getRawMessageDelivery()).isFalse();
+        assertThat(response.getResourceModels().get(0).getFilterPolicy()).containsKey("store");
+        assertThat(response.getResourceModels().get(1).getSubscriptionArn()).isEqualTo("PendingConfirmation");
+        assertThat(response.getResourceModels().get(1).getEndpoint()).isNull();
+
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+        verify(proxyClient.client(), times(2)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_HydratedFullPage() {
+        final List<Subscription> listSubscriptions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("arn" + i).build());
+        }
+
+        setupGetTopicAttributeMock();
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder().subscriptions(listSubscriptions).build());
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final Map<String, String> subscriptionAttributes = new HashMap<>(attributes);
+                    subscriptionAttributes.put("SubscriptionArn", invocation.<GetSubscriptionAttributesRequest>getArgument(0).subscriptionArn());
+                    return GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                .desiredResourceState(model)
+                                                                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(response.getResourceModels().get(i).getSubscriptionArn()).isEqualTo("arn" + i);
+            assertThat(response.getResourceModels().get(i).getEndpoint()).isEqualTo("end1");
+        }
+
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(100)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_HydratedReadFailureReturnsListedModel() {
+        final List<Subscription> listSubscriptions = new ArrayList<>();
+        listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("arn1").build());
+        listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("throttledArn").build());
+        listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("invalidArn").build());
+
+        setupGetTopicAttributeMock();
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder().subscriptions(listSubscriptions).build());
+
+        final Map<String, String> subscriptionAttributes = new HashMap<>(attributes);
+        subscriptionAttributes.put("SubscriptionArn", "arn1");
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final String subscriptionArn = invocation.<GetSubscriptionAttributesRequest>getArgument(0).subscriptionArn();
+                    if ("throttledArn".equals(subscriptionArn)) {
+                        throw ThrottledException.builder().message("Rate exceeded").build();
+                    }
+                    if ("invalidArn".equals(subscriptionArn)) {
+                        throw InvalidParameterException.builder().message("Invalid parameter: SubscriptionArn").build();
+                    }
+                    return GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                .desiredResourceState(model)
+                                                                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getResourceModels().get(0).getEndpoint()).isEqualTo("end1");
+        assertThat(response.getResourceModels().get(1).getSubscriptionArn()).isEqualTo("throttledArn");
+        assertThat(response.getResourceModels().get(1).getEndpoint()).isNull();
+        assertThat(response.getResourceModels().get(2).getSubscriptionArn()).isEqualTo("invalidArn");
+        assertThat(response.getResourceModels().get(2).getProtocol()).isEqualTo("email");
+
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(3)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_HydratedAuthorizationErrorException() {
+        setupGetTopicAttributeMock();
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder()
+                        .subscriptions(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("arn1").build())
+                        .build());
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class))).thenThrow(AuthorizationErrorException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnAccessDeniedException.class, () -> new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
+    @Test
+    public void handleRequest_AccountWide() {
+        final List<Subscription> listSubscriptions = new ArrayList<>();
+        listSubscriptions.add(Subscription.builder().protocol("email").topicArn("topicArn1").subscriptionArn("arn1").build());
+        listSubscriptions.add(Subscription.builder().protocol("sqs").topicArn("topicArn2").subscriptionArn("arn2").build());
+
+        when(proxyClient.client().listSubscriptions(any(ListSubscriptionsRequest.class)))
+                .thenReturn(ListSubscriptionsResponse.builder().subscriptions(listSubscriptions).nextToken("nextToken2").build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                .desiredResourceState(ResourceModel.builder().build())
+                                                                .nextToken("nextToken1")
+                                                                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("nextToken2");
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getTopicArn()).isEqualTo("topicArn1");
+        assertThat(response.getResourceModels().get(1).getTopicArn()).isEqualTo("topicArn2");
+        assertThat(response.getResourceModels().get(1).getProtocol()).isEqualTo("sqs");
+
+        verify(proxyClient.client()).listSubscriptions(argThat((ListSubscriptionsRequest listRequest) -> "nextToken1".equals(listRequest.nextToken())));
+        verify(proxyClient.client(), never()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), never()).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AccountWideHydrated() {
+        when(proxyClient.client().listSubscriptions(any(ListSubscriptionsRequest.class)))
+                .thenReturn(ListSubscriptionsResponse.builder()
+                        .subscriptions(Subscription.builder().protocol("email").topicArn("topicArn").subscriptionArn("testArn").build())
+                        .build());
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class)))
+                .thenReturn(GetSubscriptionAttributesResponse.builder().attributes(attributes).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getEndpoint()).isEqualTo("end1");
+
+        verify(proxyClient.client(), never()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AccountWideAuthorizationErrorException() {
+        when(proxyClient.client().listSubscriptions(any(ListSubscriptionsRequest.class))).thenThrow(AuthorizationErrorException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        assertThrows(CfnAccessDeniedException.class, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
+
     @Test
     public void handleRequest_TopicArnDoesNotExist()  {
 
@@ -4,10 +4,14 @@ package software.amazon.sns.subscription;
 import org.junit.jupiter.api.Test;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class SnsSubscriptionUtilsTest extends AbstractTestBase {
@@ -23,4 +27,35 @@ public class SnsSubscriptionUtilsTest extends AbstractTestBase {
     public void testConvertToJsonFromStringException() {
         assertThrows(CfnInvalidRequestException.class, () -> SnsSubscriptionUtils.convertToJson("{\"hello\": \"world"));
     }
+
+    @Test
+    public void testIsAttributePropagated() {
+        assertTrue(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.RawMessageDelivery, "true", "true"));
+        assertFalse(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.RawMessageDelivery, "true", "false"));
+        assertTrue(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.SubscriptionRoleArn, null, null));
+        assertFalse(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.SubscriptionRoleArn, null, "arn"));
+        assertFalse(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.SubscriptionRoleArn, "arn", ""));
+    }
+
+    @Test
+    public void testIsAttributePropagatedForPolicies() {
+        final String desired = "{\"healthyRetryPolicy\":{\"numRetries\":5}}";
+        final String normalized = "{\"healthyRetryPolicy\":{\"numRetries\":5,\"minDelayTarget\":20},\"throttlePolicy\":{}}";
+
+        assertTrue(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.DeliveryPolicy, desired, normalized));
+        assertFalse(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.DeliveryPolicy, desired, "{\"healthyRetryPolicy\":{\"numRetries\":3}}"));
+        assertFalse(SnsSubscriptionUtils.isAttributePropagated(SubscriptionAttribute.FilterPolicy, "{\"store\":[\"a\"]}", "{\"store\":[\"b\"]}"));
+    }
+
+    @Test
+    public void testLargePolicyRoundTrip() {
+        final Map<String, Object> filterPolicy = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            filterPolicy.put("key" + i, Collections.singletonList("value" + i));
+        }
+
+        final Map<String, String> attributes = SnsSubscriptionUtils.getAttributesForUpdate(SubscriptionAttribute.FilterPolicy, null, filterPolicy);
+
+        assertEquals(filterPolicy, SnsSubscriptionUtils.convertToJson(attributes.get(SubscriptionAttribute.FilterPolicy.name())));
+    }
 }
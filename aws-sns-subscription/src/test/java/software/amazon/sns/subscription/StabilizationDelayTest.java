@@ -0,0 +1,34 @@
+package software.amazon.sns.subscription;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationDelayTest {
+
+    private final StabilizationDelay delay = new StabilizationDelay(Duration.ofMillis(100), Duration.ofMillis(400), Duration.ofMillis(1000));
+
+    @Test
+    public void testNextDelayIsJitteredWithinNominalDelay() {
+        for (int i = 0; i < 50; i++) {
+            assertThat(delay.nextDelay(1)).isBetween(Duration.ofMillis(51), Duration.ofMillis(100));
+            assertThat(delay.nextDelay(2)).isBetween(Duration.ofMillis(101), Duration.ofMillis(200));
+        }
+    }
+
+    @Test
+    public void testNextDelayIsCapped() {
+        final StabilizationDelay unbounded = new StabilizationDelay(Duration.ofMillis(100), Duration.ofMillis(400), Duration.ofMinutes(1));
+
+        assertThat(unbounded.nextDelay(6)).isBetween(Duration.ofMillis(201), Duration.ofMillis(400));
+    }
+
+    @Test
+    public void testNextDelayStopsOnceBudgetIsSpent() {
+        // 100 + 200 + 400 = 700 ms have been spent, another 400 ms would exceed the budget
+        assertThat(delay.nextDelay(3)).isNotSameAs(Duration.ZERO);
+        assertThat(delay.nextDelay(4)).isSameAs(Duration.ZERO);
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.sns.subscription;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SubscriptionAttributeUpdatePlanTest {
+
+    @Test
+    public void testBetweenUnchangedModels() {
+        final ResourceModel model = ResourceModel.builder()
+                .rawMessageDelivery(true)
+                .subscriptionRoleArn("role-arn")
+                .build();
+
+        final SubscriptionAttributeUpdatePlan plan = SubscriptionAttributeUpdatePlan.between(model, model);
+
+        assertThat(plan.isEmpty()).isTrue();
+        assertThat(plan.toString()).isEqualTo("SetSubscriptionAttributes[], ApiCalls: 0");
+    }
+
+    @Test
+    public void testBetweenChangedModels() {
+        final Map<String, Object> filterPolicy = new HashMap<>();
+        filterPolicy.put("store", "example_corp");
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .filterPolicy(filterPolicy)
+                .rawMessageDelivery(true)
+                .subscriptionRoleArn("role-arn")
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .redrivePolicy(filterPolicy)
+                .build();
+
+        final SubscriptionAttributeUpdatePlan plan = SubscriptionAttributeUpdatePlan.between(previousModel, model);
+
+        assertThat(plan.getAttributes()).containsExactly(
+                entry(SubscriptionAttribute.FilterPolicy, ""),
+                entry(SubscriptionAttribute.RedrivePolicy, "{\"store\":\"example_corp\"}"),
+                entry(SubscriptionAttribute.RawMessageDelivery, "false"),
+                entry(SubscriptionAttribute.SubscriptionRoleArn, null));
+        assertThat(plan.isEmpty()).isFalse();
+        assertThat(plan.toString()).isEqualTo("SetSubscriptionAttributes[FilterPolicy, RedrivePolicy, RawMessageDelivery, SubscriptionRoleArn], ApiCalls: 4");
+    }
+
+    @Test
+    public void testBetweenLeavesUnsetRawMessageDeliveryAlone() {
+        final ResourceModel previousModel = ResourceModel.builder().build();
+        final ResourceModel model = ResourceModel.builder().rawMessageDelivery(false).build();
+
+        assertThat(SubscriptionAttributeUpdatePlan.between(previousModel, model).isEmpty()).isTrue();
+    }
+
+    private static Map.Entry<SubscriptionAttribute, String> entry(final SubscriptionAttribute name, final String value) {
+        return new AbstractMap.SimpleEntry<>(name, value);
+    }
+}
@@ -1,5 +1,7 @@
 package software.amazon.sns.subscription;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -125,7 +129,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
 
         final GetSubscriptionAttributesResponse getSubscriptionResponse = GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build();
-        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class))).thenReturn(getSubscriptionResponse);
+        final Map<String, String> updatedSubscriptionAttributes = new HashMap<>(subscriptionAttributes);
+        updatedSubscriptionAttributes.put("RawMessageDelivery", "false");
+        final GetSubscriptionAttributesResponse updatedSubscriptionResponse = GetSubscriptionAttributesResponse.builder().attributes(updatedSubscriptionAttributes).build();
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class))).thenReturn(getSubscriptionResponse).thenReturn(updatedSubscriptionResponse);
 
         // only raw message deivery should be different
         ResourceModel currentModel = buildCurrentObjects();
@@ -146,14 +153,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNotNull();
-        assertThat(response.getResourceModel().getRawMessageDelivery()).isEqualTo(true);
+        assertThat(response.getResourceModel().getRawMessageDelivery()).isEqualTo(false);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client()).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
-        verify(proxyClient.client(), times(4)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
     }
 
     @Test
@@ -201,7 +208,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), never()).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
-        verify(proxyClient.client(), times(3)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
     }
 
     @Test
@@ -248,12 +255,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), never()).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
-        verify(proxyClient.client(), times(3)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
     }
 
 
     @Test
-    public void handleRequest_UpdateMapBasedAttributes() {
+    public void handleRequest_UpdateMapBasedAttributes() throws JsonProcessingException {
         final UpdateHandler handler = new UpdateHandler();
 
         final Map<String, String> topicAttributes = new HashMap<>();
@@ -273,7 +280,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
 
         final GetSubscriptionAttributesResponse getSubscriptionResponse = GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build();
-        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class))).thenReturn(getSubscriptionResponse).thenReturn(getSubscriptionResponse);
+        final Map<String, String> updatedSubscriptionAttributes = new HashMap<>(subscriptionAttributes);
+        updatedSubscriptionAttributes.put("FilterPolicy", OBJECT_MAPPER.writeValueAsString(desiredModel.getFilterPolicy()));
+        updatedSubscriptionAttributes.put("RedrivePolicy", OBJECT_MAPPER.writeValueAsString(desiredModel.getRedrivePolicy()));
+        updatedSubscriptionAttributes.put("DeliveryPolicy", "{\"minDelayTarget\":2,\"maxDelayTarget\":4,\"numRetries\":3}");
+        final GetSubscriptionAttributesResponse updatedSubscriptionResponse = GetSubscriptionAttributesResponse.builder().attributes(updatedSubscriptionAttributes).build();
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class))).thenReturn(getSubscriptionResponse).thenReturn(updatedSubscriptionResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                                                             .desiredResourceState(desiredModel)
@@ -295,7 +307,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(3)).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
-        verify(proxyClient.client(), times(6)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+        // existence check, one stabilization for all three writes and one read of the DeliveryPolicy
+        verify(proxyClient.client(), times(3)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
     }
 
     @Test
@@ -746,6 +759,130 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RemoveFilterPolicyAndSubscriptionRoleArn() {
+
+        final Map<String, String> topicAttributes = new HashMap<>();
+        topicAttributes.put("TopicArn","topicarn");
+
+        final Map<String, String> subscriptionAttributes = new HashMap<>();
+        subscriptionAttributes.put("SubscriptionArn", "arn");
+        subscriptionAttributes.put("TopicArn", "topicArn");
+        subscriptionAttributes.put("Protocol", "email");
+        subscriptionAttributes.put("Endpoint", "end");
+        subscriptionAttributes.put("FilterPolicy", "{\"store\":[\"example_corp\"]}");
+        subscriptionAttributes.put("SubscriptionRoleArn", "New-Subscription-Role-Arn");
+
+        final Map<String, String> updatedSubscriptionAttributes = new HashMap<>(subscriptionAttributes);
+        updatedSubscriptionAttributes.remove("FilterPolicy");
+        updatedSubscriptionAttributes.remove("SubscriptionRoleArn");
+
+        final GetTopicAttributesResponse getTopicAttributesResponse = GetTopicAttributesResponse.builder().attributes(topicAttributes).build();
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
+
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class)))
+                .thenReturn(GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build())
+                .thenReturn(GetSubscriptionAttributesResponse.builder().attributes(updatedSubscriptionAttributes).build());
+
+        // filter policy and subscription role arn are removed from the template
+        ResourceModel currentModel = buildCurrentObjects();
+        currentModel.setSubscriptionRoleArn("New-Subscription-Role-Arn");
+        ResourceModel desiredModel = buildCurrentObjects();
+        desiredModel.setFilterPolicy(null);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(currentModel)
+                .build();
+
+        final SetSubscriptionAttributesResponse setSubscriptionAttributesResponse = SetSubscriptionAttributesResponse.builder().build();
+        when(proxyClient.client().setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class))).thenReturn(setSubscriptionAttributesResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNotNull();
+        assertThat(response.getResourceModel().getSubscriptionRoleArn()).isNull();
+        assertThat(response.getResourceModel().getFilterPolicy()).isNull();
+        assertThat(response.getResourceModel().getEndpoint()).isEqualTo("end");
+
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WaitsForAttributeToPropagate() {
+        final UpdateHandler handler = new UpdateHandler(new StabilizationDelay(Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofSeconds(1)));
+
+        setupTopicAttributesMock();
+
+        final Map<String, String> subscriptionAttributes = new HashMap<>();
+        subscriptionAttributes.put("SubscriptionArn", "arn");
+        subscriptionAttributes.put("RawMessageDelivery", "true");
+        final Map<String, String> updatedSubscriptionAttributes = new HashMap<>(subscriptionAttributes);
+        updatedSubscriptionAttributes.put("RawMessageDelivery", "false");
+
+        // the first stabilization poll still returns the previous value
+        final GetSubscriptionAttributesResponse getSubscriptionResponse = GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build();
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class)))
+                .thenReturn(getSubscriptionResponse)
+                .thenReturn(getSubscriptionResponse)
+                .thenReturn(GetSubscriptionAttributesResponse.builder().attributes(updatedSubscriptionAttributes).build());
+        when(proxyClient.client().setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class))).thenReturn(SetSubscriptionAttributesResponse.builder().build());
+
+        final ResourceModel desiredModel = buildCurrentObjects();
+        desiredModel.setRawMessageDelivery(false);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(buildCurrentObjects())
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getRawMessageDelivery()).isFalse();
+        assertThat(callbackContext.getAttributeStabilizationPolls()).isEqualTo(2);
+        assertThat(callbackContext.getPropagatedAttributes()).containsExactly("RawMessageDelivery");
+
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
+        verify(proxyClient.client(), times(3)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AttributeNeverPropagates() {
+        final UpdateHandler handler = new UpdateHandler(new StabilizationDelay(Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(4)));
+
+        setupTopicAttributesMock();
+
+        final Map<String, String> subscriptionAttributes = new HashMap<>();
+        subscriptionAttributes.put("SubscriptionArn", "arn");
+        subscriptionAttributes.put("RawMessageDelivery", "true");
+        when(proxyClient.client().getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class)))
+                .thenReturn(GetSubscriptionAttributesResponse.builder().attributes(subscriptionAttributes).build());
+        when(proxyClient.client().setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class))).thenReturn(SetSubscriptionAttributesResponse.builder().build());
+
+        final ResourceModel desiredModel = buildCurrentObjects();
+        desiredModel.setRawMessageDelivery(false);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(buildCurrentObjects())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // a budget of 4 ms allows delays of 1 and 2 ms, so the value is polled three times before giving up
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+
         verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client()).setSubscriptionAttributes(any(SetSubscriptionAttributesRequest.class));
         verify(proxyClient.client(), times(4)).getSubscriptionAttributes(any(GetSubscriptionAttributesRequest.class));
@@ -804,6 +941,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThrows(CfnInternalFailureException.class, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
 
+    private void setupTopicAttributesMock() {
+        final Map<String, String> topicAttributes = new HashMap<>();
+        topicAttributes.put("TopicArn","topicarn");
+
+        final GetTopicAttributesResponse getTopicAttributesResponse = GetTopicAttributesResponse.builder().attributes(topicAttributes).build();
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
+    }
+
     private void setupUpdateMocks() {
         final Map<String, String> topicAttributes = new HashMap<>();
         topicAttributes.put("TopicArn","topicarn");
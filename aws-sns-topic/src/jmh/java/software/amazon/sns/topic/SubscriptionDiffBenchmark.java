@@ -0,0 +1,84 @@
+package software.amazon.sns.topic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per diff of topics with many inline subscriptions, where a tenth of the subscriptions is replaced. Run with
+ * {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubscriptionDiffBenchmark {
+
+    @Param({"10000", "100000"})
+    public int subscriptions;
+
+    private List<Subscription> previous;
+    private List<Subscription> desired;
+    private List<List<software.amazon.awssdk.services.sns.model.Subscription>> pages;
+
+    @Setup
+    public void setup() {
+        previous = new ArrayList<>(subscriptions);
+        desired = new ArrayList<>(subscriptions);
+        pages = new ArrayList<>();
+        List<software.amazon.awssdk.services.sns.model.Subscription> page = new ArrayList<>();
+        for (int i = 0; i < subscriptions; i++) {
+            previous.add(subscription(i));
+            desired.add(subscription(i % 10 == 0 ? i + subscriptions : i));
+            // ListSubscriptionsByTopic returns 100 subscriptions per page
+            if (page.size() == 100) {
+                pages.add(page);
+                page = new ArrayList<>();
+            }
+            page.add(software.amazon.awssdk.services.sns.model.Subscription.builder()
+                    .endpoint(endpoint(i))
+                    .protocol("sqs")
+                    .subscriptionArn("arn:aws:sns:us-east-1:123456789012:topic:" + i)
+                    .build());
+        }
+        pages.add(page);
+    }
+
+    @Benchmark
+    public SubscriptionDiff diff() {
+        return SubscriptionDiff.between(previous, desired);
+    }
+
+    @Benchmark
+    public List<String> diffAndResolveUnsubscribeArns() {
+        final SubscriptionDiff.UnsubscribeArnResolver resolver = SubscriptionDiff.between(previous, desired).unsubscribeArnResolver();
+        for (final List<software.amazon.awssdk.services.sns.model.Subscription> listed : pages) {
+            if (!resolver.accept(listed)) {
+                break;
+            }
+        }
+        return resolver.getSubscriptionArns();
+    }
+
+    private static Subscription subscription(final int index) {
+        return Subscription.builder().endpoint(endpoint(index)).protocol("sqs").build();
+    }
+
+    private static String endpoint(final int index) {
+        return "arn:aws:sqs:us-east-1:123456789012:queue-" + index;
+    }
+}
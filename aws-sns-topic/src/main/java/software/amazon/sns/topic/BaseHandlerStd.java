@@ -15,6 +15,9 @@ import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -24,7 +27,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     //For stabilization backoff, set the timeout to 2 mins and duration as 15 second for initial strategy
     public static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(2L)).delay(Duration.ofSeconds(15L)).build();
-    private static final int DELAY_TIME_MILLI_SECS = 6000;
+    // SNS is eventually consistent, so Subscribe may not see a topic that was just created. Rather than sleeping, the
+    // topic is probed and the handler is re-invoked after a short callback delay until the topic is visible.
+    public static final int TOPIC_VISIBILITY_CALLBACK_DELAY_SECONDS = 5;
+    public static final int TOPIC_VISIBILITY_MAX_PROBES = 12;
+    // Subscribe/Unsubscribe calls that still fail with a retryable error after the executor's own backoff are retried
+    // on a re-invocation, which only sends the calls that have not completed yet.
+    public static final int SUBSCRIPTION_RETRY_CALLBACK_DELAY_SECONDS = 5;
+    public static final int SUBSCRIPTION_RETRY_MAX_ATTEMPTS = 5;
+    protected static final String PENDING_CONFIRMATION = "PendingConfirmation";
+
+    private final SubscriptionCallExecutor subscriptionCallExecutor = new SubscriptionCallExecutor();
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -48,6 +61,31 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<SnsClient> proxyClient,
             final Logger logger);
 
+    /**
+     * Runs {@code stage} unless the callback context already lists {@code stageName} as completed. The stage is
+     * recorded once it lets the chain continue, so a handler re-invoked after an IN_PROGRESS event resumes after the
+     * last completed stage; a thrown exception fails the invocation and the context is not passed on.
+     * <p>
+     * Stages that go through {@code proxy.initiate} are already memoized by the call graph of
+     * {@link software.amazon.cloudformation.proxy.StdCallbackContext}, so for them the ledger only saves the lookup.
+     * It matters for the Subscribe, Unsubscribe and Tags stages, which call the client directly.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> checkpoint(
+            final String stageName,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> stage
+    ) {
+        final Set<String> completedStages = progress.getCallbackContext().getCompletedStages();
+        if (completedStages.contains(stageName)) {
+            return progress;
+        }
+        final ProgressEvent<ResourceModel, CallbackContext> result = stage.apply(progress);
+        if (result.canContinueProgress()) {
+            completedStages.add(stageName);
+        }
+        return result;
+    }
+
     protected boolean checkIfTopicAlreadyExist(
             final ResourceHandlerRequest<ResourceModel> request,
             final ProxyClient<SnsClient> proxyClient,
@@ -79,63 +117,74 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
-    protected void createSubscriptions(
+    protected ProgressEvent<ResourceModel, CallbackContext> createSubscriptions(
             final ProxyClient<SnsClient> proxyClient,
-            final List<Subscription> subscriptions,
-            final ResourceModel model,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Logger logger
     ) {
+        final ResourceModel model = progress.getResourceModel();
+        final List<Subscription> subscriptions = model.getSubscription();
+
         if (subscriptions == null) {
-            return;
+            return progress;
         }
-        // Sleep before and after calling Subscribe because SNS has inconsistency issue, then Subscribe
-        // may fail. In workflow implementation, we have an initial wait time as 10 seconds.
-        try {
-            Thread.sleep(DELAY_TIME_MILLI_SECS);
-        } catch (InterruptedException e) {
-            throw new CfnGeneralServiceException(e);
+        return waitForTopicVisibility(proxyClient, progress, logger)
+                .then(visible -> addSubscription(proxyClient, visible, subscriptions, logger));
+    }
+
+    /**
+     * Probes the topic with GetTopicAttributes. If it is not visible yet, the number of probes is recorded in the
+     * callback context and an IN_PROGRESS event is returned so that the handler is re-invoked after
+     * {@link #TOPIC_VISIBILITY_CALLBACK_DELAY_SECONDS} instead of holding the worker.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> waitForTopicVisibility(
+            final ProxyClient<SnsClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Logger logger
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        if (isTopicVisible(proxyClient, model.getTopicArn())) {
+            return ProgressEvent.progress(model, callbackContext);
         }
-        for (final Subscription subscription : subscriptions) {
-            SubscribeRequest subscribeRequest = Translator.translateToSubscribeRequest(model, subscription);
-            proxyClient.injectCredentialsAndInvokeV2(subscribeRequest, proxyClient.client()::subscribe);
+
+        final int probes = callbackContext.getTopicVisibilityProbes() + 1;
+        if (probes >= TOPIC_VISIBILITY_MAX_PROBES) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getTopicArn());
         }
+        callbackContext.setTopicVisibilityProbes(probes);
+        logger.log(String.format("Topic %s is not visible yet, probing again in %d seconds", model.getTopicArn(), TOPIC_VISIBILITY_CALLBACK_DELAY_SECONDS));
+        return ProgressEvent.defaultInProgressHandler(callbackContext, TOPIC_VISIBILITY_CALLBACK_DELAY_SECONDS, model);
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> addSubscription(
-            AmazonWebServicesClientProxy proxy,
-            ProxyClient<SnsClient> client,
+            ProxyClient<SnsClient> proxyClient,
             ProgressEvent<ResourceModel, CallbackContext> progress,
             List<Subscription> subscriptions,
             Logger logger
     ) {
         final ResourceModel model = progress.getResourceModel();
-        final CallbackContext callbackContext = progress.getCallbackContext();
 
         if (subscriptions == null) {
-            return ProgressEvent.progress(model, callbackContext);
-        }
-        // Sleep before and after calling Subscribe because SNS has inconsistency issue, then Subscribe
-        // may fail. In workflow implementation, we have an initial wait time as 10 seconds.
-        try {
-            Thread.sleep(DELAY_TIME_MILLI_SECS);
-        } catch (InterruptedException e) {
-            throw new CfnGeneralServiceException(e);
+            return ProgressEvent.progress(model, progress.getCallbackContext());
         }
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
         for (final Subscription subscription : subscriptions) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
-                    .initiate("AWS-SNS-Topic::Subscribe-" + subscription.hashCode(), client, model, callbackContext)
-                    .translateToServiceRequest(model1 -> Translator.translateToSubscribeRequest(model1, subscription))
-                    .makeServiceCall((subscriptionRequest, proxyClient) -> proxy.injectCredentialsAndInvokeV2(subscriptionRequest, proxyClient.client()::subscribe))
-                    .success();
-
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
+            final String key = String.format("Subscribe:%s:%s", subscription.getProtocol(), subscription.getEndpoint());
+            if (calls.containsKey(key)) {
+                // Subscribe is idempotent for the same protocol and endpoint, so a duplicate entry would only repeat the call
+                logger.log(String.format("Subscription %s %s is listed more than once for topic %s, subscribing once",
+                        subscription.getProtocol(), subscription.getEndpoint(), model.getTopicArn()));
+                continue;
             }
+            final SubscribeRequest subscribeRequest = Translator.translateToSubscribeRequest(model, subscription);
+            calls.put(key, () -> proxyClient.injectCredentialsAndInvokeV2(subscribeRequest, proxyClient.client()::subscribe));
         }
-        return ProgressEvent.progress(model, callbackContext);
+        return invokeSubscriptionCalls(calls, progress, logger);
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> removeSubscription(AmazonWebServicesClientProxy proxy, ProxyClient<SnsClient> client, ProgressEvent<ResourceModel, CallbackContext> progress, Logger logger) {
+    protected ProgressEvent<ResourceModel, CallbackContext> removeSubscription(ProxyClient<SnsClient> proxyClient, ProgressEvent<ResourceModel, CallbackContext> progress, Logger logger) {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext callbackContext = progress.getCallbackContext();
         final List<String> unsubscribeArnList = callbackContext.getSubscriptionArnToUnsubscribe();
@@ -143,20 +192,54 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         if (unsubscribeArnList == null) {
             return ProgressEvent.progress(model, callbackContext);
         }
-
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
         for (final String subscriptionArn : unsubscribeArnList) {
-            if (null != subscriptionArn && !"PendingConfirmation".equals(subscriptionArn)) {
-                final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
-                        .initiate("AWS-SNS-Topic::Unsubscribe-" + subscriptionArn.hashCode(), client, model, callbackContext)
-                        .translateToServiceRequest(model1 -> Translator.translateToUnsubscribe(subscriptionArn))
-                        .makeServiceCall((subscriptionRequest, proxyClient) -> proxy.injectCredentialsAndInvokeV2(subscriptionRequest, proxyClient.client()::unsubscribe))
-                        .success();
-
-                if (!progressEvent.isSuccess()) {
-                    return progressEvent;
-                }
+            if (null != subscriptionArn && !PENDING_CONFIRMATION.equals(subscriptionArn)) {
+                calls.put("Unsubscribe:" + subscriptionArn,
+                        () -> proxyClient.injectCredentialsAndInvokeV2(Translator.translateToUnsubscribe(subscriptionArn), proxyClient.client()::unsubscribe));
             }
         }
+        return invokeSubscriptionCalls(calls, progress, logger);
+    }
+
+    /**
+     * Sends the Subscribe/Unsubscribe calls in parallel through {@link SubscriptionCallExecutor}. Calls that already
+     * succeeded are recorded in {@link CallbackContext#getCompletedSubscriptionCalls()} and skipped on re-invocation.
+     * <p>
+     * When calls are left after a throttling or internal error, an IN_PROGRESS event carries that ledger to the
+     * re-invocation, up to {@link #SUBSCRIPTION_RETRY_MAX_ATTEMPTS} times. A thrown exception would fail the handler
+     * and drop the callback context, so only errors that a retry cannot fix are thrown.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> invokeSubscriptionCalls(
+            final Map<String, Supplier<?>> calls,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Logger logger
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final Set<String> completed = callbackContext.getCompletedSubscriptionCalls();
+        final int alreadyCompleted = completed.size();
+        try {
+            subscriptionCallExecutor.invokeAll(calls, completed);
+        } catch (AuthorizationErrorException e) {
+            throw new CfnAccessDeniedException(e);
+        } catch (SnsException e) {
+            if (!isRetryable(e)) {
+                throw new CfnGeneralServiceException(e);
+            }
+            final int attempts = callbackContext.getSubscriptionRetryAttempts() + 1;
+            if (attempts > SUBSCRIPTION_RETRY_MAX_ATTEMPTS) {
+                throw translateServiceExceptionToFailure(e);
+            }
+            callbackContext.setSubscriptionRetryAttempts(attempts);
+            final int delaySeconds = SUBSCRIPTION_RETRY_CALLBACK_DELAY_SECONDS * attempts;
+            logger.log(String.format("Subscription calls for topic %s failed with %s, retrying the remaining calls in %d seconds",
+                    model.getTopicArn(), e.getClass().getSimpleName(), delaySeconds));
+            return ProgressEvent.defaultInProgressHandler(callbackContext, delaySeconds, model);
+        } finally {
+            logger.log(String.format("Subscription calls for topic %s: %d requested, %d completed in this invocation",
+                    model.getTopicArn(), calls.size(), completed.size() - alreadyCompleted));
+        }
         return ProgressEvent.progress(model, callbackContext);
     }
 
@@ -191,6 +274,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return getTopicAttributesResponse;
     }
 
+    private boolean isTopicVisible(final ProxyClient<SnsClient> proxyClient, final String topicArn) {
+        try {
+            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToGetTopicAttributes(topicArn), proxyClient.client()::getTopicAttributes);
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        } catch (SnsException e) {
+            throw translateServiceExceptionToFailure(e);
+        }
+    }
+
     protected ListTagsForResourceResponse invokeListTagsForResource(final ProxyClient<SnsClient> proxyClient, final String topicArn, final Logger logger) {
         try {
             return proxyClient.injectCredentialsAndInvokeV2(Translator.listTagsForResourceRequest(topicArn), proxyClient.client()::listTagsForResource);
@@ -203,18 +297,47 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
-    protected ListSubscriptionsByTopicResponse invokeListSubscriptionsByTopic(final ProxyClient<SnsClient> proxyClient, final ResourceModel resourceModel, final Logger logger) {
+    protected List<Subscription> invokeListSubscriptionsByTopic(final ProxyClient<SnsClient> proxyClient, final ResourceModel resourceModel, final Logger logger) {
         try {
-            return proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListSubscriptionByTopic(resourceModel), proxyClient.client()::listSubscriptionsByTopic);
+            final List<Subscription> subscriptions = new ArrayList<>();
+            listSubscriptionsByTopic(proxyClient, resourceModel, page -> {
+                Translator.streamOfOrEmpty(page).map(Translator::translateSubscriptionFromSdk).forEach(subscriptions::add);
+                return true;
+            });
+            return subscriptions;
         } catch (AuthorizationErrorException e) {
             // This is a short term fix for Fn::GetAtt backwards compatibility
             logger.log(String.format("AccessDenied error: %s for topic: %s", e.getMessage(), resourceModel.getTopicArn()));
-            return ListSubscriptionsByTopicResponse.builder().build();
+            return Collections.emptyList();
         } catch (SnsException e) {
             throw translateServiceExceptionToFailure(e);
         }
     }
 
+    protected boolean isFifoTopic(Map<String, String> topicAttributes) {
+        return null != topicAttributes
+                && topicAttributes.containsKey("FifoTopic")
+                && Boolean.parseBoolean(topicAttributes.get("FifoTopic"));
+    }
+
+    /**
+     * Pages through ListSubscriptionsByTopic and hands every page to {@code pageConsumer} as soon as it arrives, so
+     * only one page of raw SDK subscriptions is held at a time. Paging stops once there is no next token or the
+     * consumer returns false. Returns the last page that was fetched.
+     */
+    protected ListSubscriptionsByTopicResponse listSubscriptionsByTopic(
+            final ProxyClient<SnsClient> proxyClient,
+            final ResourceModel resourceModel,
+            final Predicate<List<software.amazon.awssdk.services.sns.model.Subscription>> pageConsumer) {
+        ListSubscriptionsByTopicResponse response;
+        String nextToken = null;
+        do {
+            response = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListSubscriptionByTopic(resourceModel, nextToken), proxyClient.client()::listSubscriptionsByTopic);
+            nextToken = response.nextToken();
+        } while (pageConsumer.test(response.subscriptions()) && nextToken != null);
+        return response;
+    }
+
     protected GetDataProtectionPolicyResponse invokeGetDataProtectionPolicy(final ProxyClient<SnsClient> proxyClient, final String topicArn, final Logger logger) {
         try {
             return proxyClient.injectCredentialsAndInvokeV2(Translator.getDataProtectionPolicyRequest(topicArn), proxyClient.client()::getDataProtectionPolicy);
@@ -254,6 +377,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
     }
 
+    private static boolean isRetryable(final SnsException ex) {
+        return ex instanceof ThrottledException || ex.isThrottlingException() || ex instanceof InternalErrorException;
+    }
+
     private BaseHandlerException translateServiceExceptionToFailure(final SnsException ex) {
         if (ex instanceof ThrottledException || ex.isThrottlingException()) {
             return new CfnThrottlingException(ex); // CFN can retry on throttling error.
@@ -2,7 +2,10 @@ package software.amazon.sns.topic;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @lombok.Getter
 @lombok.Setter
@@ -10,4 +13,10 @@ import java.util.List;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private List<String> subscriptionArnToUnsubscribe;
+    private int topicVisibilityProbes;
+    private Long deleteStabilizationStartTime;
+    private int deleteStabilizationPolls;
+    private Set<String> completedSubscriptionCalls = new HashSet<>();
+    private int subscriptionRetryAttempts;
+    private Set<String> completedStages = new LinkedHashSet<>();
 }
@@ -46,7 +46,6 @@ public class CreateHandler extends BaseHandlerStd {
                             try {
                                 CreateTopicResponse createTopicResponse = proxy.injectCredentialsAndInvokeV2(Translator.translateToCreateTopicRequest(model, tagsList), proxyClient.client()::createTopic);
                                 model.setTopicArn(createTopicResponse.topicArn());
-                                createSubscriptions(proxyClient, model.getSubscription(), model, logger);
                                 return createTopicResponse;
                             } catch (AuthorizationErrorException e) {
                                 throw new CfnAccessDeniedException(e);
@@ -56,6 +55,7 @@ public class CreateHandler extends BaseHandlerStd {
                         })
                         .progress()
                 )
-                .defaultSuccessHandler(model);
+                .then(progress -> createSubscriptions(proxyClient, progress, logger))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(model));
     }
 }
@@ -1,7 +1,8 @@
 package software.amazon.sns.topic;
 
 import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
+import software.amazon.awssdk.services.sns.model.SnsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -9,9 +10,29 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
+
 public class DeleteHandler extends BaseHandlerStd {
+    // Recreating a topic with the same name right after deletion may hand out the old subscription ARNs, so the
+    // handler waits until GetTopicAttributes reports NotFound. The timeout keeps the old 45 second wait as upper bound.
+    private static final Duration STABILIZATION_INITIAL_DELAY = Duration.ofSeconds(5L);
+    private static final Duration STABILIZATION_MAX_DELAY = Duration.ofSeconds(20L);
+    private static final Duration STABILIZATION_TIMEOUT = Duration.ofSeconds(45L);
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
     private Logger logger;
-    private static final int DESTROY_WAIT_MS = 45000;
+
+    public DeleteHandler() {
+        this(STABILIZATION_INITIAL_DELAY, STABILIZATION_MAX_DELAY, STABILIZATION_TIMEOUT);
+    }
+
+    DeleteHandler(final Duration initialDelay, final Duration maxDelay, final Duration timeout) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -35,19 +56,60 @@ public class DeleteHandler extends BaseHandlerStd {
                         proxy.initiate("AWS-SNS-Topic::Delete", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteTopic)
                                 .makeServiceCall((deleteTopicRequest, client) -> proxy.injectCredentialsAndInvokeV2(deleteTopicRequest, client.client()::deleteTopic))
-                                .done(awsResponse -> {
-                                    // Recreate the resource with same name, then subscribe may result in same subscription ARN
-                                    // Have to wait long as a workaround
-                                    // TODO: Need to check MDS code on our cache.
-                                    try {
-                                        Thread.sleep(DESTROY_WAIT_MS);
-                                    } catch (InterruptedException e) {
-                                        throw new CfnGeneralServiceException(e);
-                                    }
-                                    return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                            .status(OperationStatus.SUCCESS)
-                                            .build();
-                                })
-                );
+                                .progress()
+                )
+                .then(progress -> waitForTopicDeletion(proxyClient, progress));
+    }
+
+    /**
+     * Polls GetTopicAttributes until the topic is reported as NotFound. Between polls the handler returns IN_PROGRESS
+     * with an exponentially growing callback delay, so no worker is held while waiting. Once {@link #timeout} has
+     * elapsed the delete is reported as successful anyway, since DeleteTopic itself already succeeded.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> waitForTopicDeletion(
+            final ProxyClient<SnsClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        final long now = System.currentTimeMillis();
+        if (callbackContext.getDeleteStabilizationStartTime() == null) {
+            callbackContext.setDeleteStabilizationStartTime(now);
+        }
+        final long elapsedMillis = now - callbackContext.getDeleteStabilizationStartTime();
+        final int polls = callbackContext.getDeleteStabilizationPolls() + 1;
+        callbackContext.setDeleteStabilizationPolls(polls);
+
+        if (isTopicDeleted(proxyClient, model)) {
+            logger.log(String.format("Delete stabilization converged for topic: %s, ElapsedMillis: %d, Polls: %d", model.getTopicArn(), elapsedMillis, polls));
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
+        if (elapsedMillis >= timeout.toMillis()) {
+            logger.log(String.format("Delete stabilization timed out for topic: %s, ElapsedMillis: %d, Polls: %d", model.getTopicArn(), elapsedMillis, polls));
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
+        return ProgressEvent.defaultInProgressHandler(callbackContext, (int) nextDelay(polls).getSeconds(), model);
+    }
+
+    private boolean isTopicDeleted(final ProxyClient<SnsClient> proxyClient, final ResourceModel model) {
+        try {
+            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToGetTopicAttributes(model), proxyClient.client()::getTopicAttributes);
+            return false;
+        } catch (NotFoundException e) {
+            return true;
+        } catch (SnsException e) {
+            // The topic is already deleted at this point, so a failing probe only means we keep waiting.
+            logger.log(String.format("Delete stabilization probe failed for topic: %s, %s", model.getTopicArn(), e.getMessage()));
+            return false;
+        }
+    }
+
+    private Duration nextDelay(final int polls) {
+        final Duration delay = initialDelay.multipliedBy(1L << Math.min(polls - 1, 16));
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
     }
 }
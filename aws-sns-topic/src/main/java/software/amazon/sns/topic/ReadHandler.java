@@ -2,7 +2,6 @@ package software.amazon.sns.topic;
 
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sns.model.GetDataProtectionPolicyResponse;
-import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicResponse;
 import software.amazon.awssdk.services.sns.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -10,7 +9,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -33,19 +33,21 @@ public class ReadHandler extends BaseHandlerStd {
                                 .translateToServiceRequest(Translator::translateToGetTopicAttributes)
                                 .makeServiceCall(this::getTopicAttributes)
                                 .done((getTopicAttributesRequest, getTopicAttributesResponse, sdkProxyClient, resourceModel, context) -> {
-                                    final ListTagsForResourceResponse listTagsForResourceResponse = invokeListTagsForResource(sdkProxyClient, resourceModel.getTopicArn(), logger);
-                                    final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse = invokeListSubscriptionsByTopic(sdkProxyClient, resourceModel, logger);
-                                    GetDataProtectionPolicyResponse getDataProtectionPolicyResponse = null;
+                                    // The follow-up calls only depend on the topic ARN, so send them at the same time
+                                    final CompletableFuture<ListTagsForResourceResponse> listTagsForResource =
+                                            BoundedExecutor.submit(() -> invokeListTagsForResource(sdkProxyClient, resourceModel.getTopicArn(), logger));
+                                    final CompletableFuture<List<Subscription>> listSubscriptionsByTopic =
+                                            BoundedExecutor.submit(() -> invokeListSubscriptionsByTopic(sdkProxyClient, resourceModel, logger));
+                                    CompletableFuture<GetDataProtectionPolicyResponse> getDataProtectionPolicy = CompletableFuture.completedFuture(null);
                                     if (!isFifoTopic(getTopicAttributesResponse.attributes())) { // only standard topic supports data protection policy
-                                        getDataProtectionPolicyResponse = invokeGetDataProtectionPolicy(sdkProxyClient, resourceModel.getTopicArn(), logger);
+                                        getDataProtectionPolicy = BoundedExecutor.submit(() -> invokeGetDataProtectionPolicy(sdkProxyClient, resourceModel.getTopicArn(), logger));
                                     }
-                                    return ProgressEvent.success(Translator.translateFromGetTopicAttributes(getTopicAttributesResponse, listSubscriptionsByTopicResponse, listTagsForResourceResponse, getDataProtectionPolicyResponse), callbackContext);
-                                }));
-    }
+                                    BoundedExecutor.awaitAll(listTagsForResource, listSubscriptionsByTopic, getDataProtectionPolicy);
 
-    private boolean isFifoTopic(Map<String, String> topicAttributes) {
-        return null != topicAttributes
-                && topicAttributes.containsKey("FifoTopic")
-                && Boolean.parseBoolean(topicAttributes.get("FifoTopic"));
+                                    final ListTagsForResourceResponse listTagsForResourceResponse = BoundedExecutor.join(listTagsForResource);
+                                    final List<Subscription> subscriptions = BoundedExecutor.join(listSubscriptionsByTopic);
+                                    final GetDataProtectionPolicyResponse getDataProtectionPolicyResponse = BoundedExecutor.join(getDataProtectionPolicy);
+                                    return ProgressEvent.success(Translator.translateFromGetTopicAttributes(getTopicAttributesResponse, subscriptions, listTagsForResourceResponse, getDataProtectionPolicyResponse), callbackContext);
+                                }));
     }
 }
@@ -0,0 +1,99 @@
+package software.amazon.sns.topic;
+
+import software.amazon.awssdk.services.sns.model.SnsException;
+import software.amazon.awssdk.services.sns.model.ThrottledException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sends Subscribe and Unsubscribe calls in parallel on the {@link BoundedExecutor}, so at most
+ * {@link BoundedExecutor#MAX_CONCURRENCY} of them are in flight per container.
+ * <p>
+ * A call that is throttled is retried with exponential backoff, and the backoff also pauses every other call of the
+ * same executor that has not been sent yet, so the whole batch slows down instead of piling onto the throttled API.
+ */
+final class SubscriptionCallExecutor {
+    static final int MAX_ATTEMPTS = 5;
+    private static final Duration BASE_BACKOFF = Duration.ofMillis(200);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final AtomicLong pausedUntilMillis = new AtomicLong();
+
+    SubscriptionCallExecutor() {
+        this(BASE_BACKOFF, MAX_BACKOFF);
+    }
+
+    SubscriptionCallExecutor(final Duration baseBackoff, final Duration maxBackoff) {
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Invokes every call whose key is not in {@code completed} yet and adds the key of each call that succeeded.
+     * Once all calls have finished, the first failure is rethrown, so a re-invocation only retries what is left.
+     */
+    void invokeAll(final Map<String, Supplier<?>> calls, final Set<String> completed) {
+        final Map<String, CompletableFuture<?>> inFlight = new LinkedHashMap<>();
+        calls.forEach((key, call) -> {
+            if (!completed.contains(key)) {
+                inFlight.put(key, BoundedExecutor.submit(() -> invoke(call)));
+            }
+        });
+        BoundedExecutor.awaitAll(inFlight.values().toArray(new CompletableFuture<?>[0]));
+
+        RuntimeException failure = null;
+        for (final Map.Entry<String, CompletableFuture<?>> entry : inFlight.entrySet()) {
+            try {
+                BoundedExecutor.join(entry.getValue());
+                completed.add(entry.getKey());
+            } catch (RuntimeException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <T> T invoke(final Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            awaitPause();
+            try {
+                return call.get();
+            } catch (SnsException e) {
+                // query-protocol throttling ("Throttling", "Rate exceeded") arrives as a plain SnsException. The client
+                // already retried the call with its own SDK retry policy, so one call can be attempted up to
+                // MAX_ATTEMPTS times the SDK's attempts.
+                if (!isThrottled(e) || attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                final long backoff = Math.min(baseBackoff.toMillis() << (attempt - 1), maxBackoff.toMillis());
+                pausedUntilMillis.accumulateAndGet(System.currentTimeMillis() + backoff, Math::max);
+            }
+        }
+    }
+
+    private static boolean isThrottled(final SnsException e) {
+        return e instanceof ThrottledException || e.isThrottlingException();
+    }
+
+    private void awaitPause() {
+        long remaining;
+        while ((remaining = pausedUntilMillis.get() - System.currentTimeMillis()) > 0) {
+            try {
+                Thread.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.sns.topic;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Difference between the inline subscriptions of the previous and the desired topic model, computed in a single pass
+ * over both lists. Subscriptions are matched on endpoint and protocol; duplicates in either list are collapsed.
+ */
+final class SubscriptionDiff {
+    private final List<Subscription> toSubscribe;
+    private final List<Subscription> toUnsubscribe;
+
+    private SubscriptionDiff(final List<Subscription> toSubscribe, final List<Subscription> toUnsubscribe) {
+        this.toSubscribe = toSubscribe;
+        this.toUnsubscribe = toUnsubscribe;
+    }
+
+    static SubscriptionDiff between(final List<Subscription> previous, final List<Subscription> desired) {
+        final Map<Key, Subscription> pending = new LinkedHashMap<>();
+        Translator.streamOfOrEmpty(desired).forEach(subscription -> pending.putIfAbsent(Key.of(subscription), subscription));
+
+        final Set<Key> seen = new HashSet<>();
+        final List<Subscription> toUnsubscribe = new ArrayList<>();
+        Translator.streamOfOrEmpty(previous).forEach(subscription -> {
+            final Key key = Key.of(subscription);
+            if (seen.add(key) && pending.remove(key) == null) {
+                toUnsubscribe.add(subscription);
+            }
+        });
+        return new SubscriptionDiff(new ArrayList<>(pending.values()), toUnsubscribe);
+    }
+
+    List<Subscription> getToSubscribe() {
+        return Collections.unmodifiableList(toSubscribe);
+    }
+
+    List<Subscription> getToUnsubscribe() {
+        return Collections.unmodifiableList(toUnsubscribe);
+    }
+
+    /**
+     * Starts resolving the ARNs of {@link #getToUnsubscribe()} from ListSubscriptionsByTopic pages.
+     */
+    UnsubscribeArnResolver unsubscribeArnResolver() {
+        return new UnsubscribeArnResolver(toUnsubscribe);
+    }
+
+    /**
+     * Indexes the ARNs of the subscriptions to remove one page at a time, keeping only the entries it is looking for.
+     * A confirmed ARN wins over "PendingConfirmation" when the same endpoint and protocol are listed more than once.
+     */
+    static final class UnsubscribeArnResolver {
+        private final List<Key> wanted = new ArrayList<>();
+        private final Set<Key> unresolved = new HashSet<>();
+        private final Map<Key, String> subscriptionArns = new HashMap<>();
+
+        private UnsubscribeArnResolver(final List<Subscription> toUnsubscribe) {
+            toUnsubscribe.forEach(subscription -> wanted.add(Key.of(subscription)));
+            unresolved.addAll(wanted);
+        }
+
+        /**
+         * Returns true while some wanted subscription still has no confirmed ARN, i.e. the next page is needed.
+         */
+        boolean accept(final List<software.amazon.awssdk.services.sns.model.Subscription> page) {
+            Translator.streamOfOrEmpty(page).forEach(subscription -> {
+                final Key key = Key.of(subscription.endpoint(), subscription.protocol());
+                if (unresolved.contains(key)) {
+                    subscriptionArns.put(key, subscription.subscriptionArn());
+                    if (isConfirmed(subscription.subscriptionArn())) {
+                        unresolved.remove(key);
+                    }
+                }
+            });
+            return !unresolved.isEmpty();
+        }
+
+        /**
+         * ARNs in the order of {@link #getToUnsubscribe()}; null for subscriptions that were not found.
+         */
+        List<String> getSubscriptionArns() {
+            final List<String> arns = new ArrayList<>(wanted.size());
+            wanted.forEach(key -> arns.add(subscriptionArns.get(key)));
+            return arns;
+        }
+
+        private static boolean isConfirmed(final String subscriptionArn) {
+            return subscriptionArn != null && !BaseHandlerStd.PENDING_CONFIRMATION.equals(subscriptionArn);
+        }
+    }
+
+    @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+    @RequiredArgsConstructor(staticName = "of")
+    private static final class Key {
+        private final String endpoint;
+        private final String protocol;
+
+        static Key of(final Subscription subscription) {
+            return of(subscription.getEndpoint(), subscription.getProtocol());
+        }
+    }
+}
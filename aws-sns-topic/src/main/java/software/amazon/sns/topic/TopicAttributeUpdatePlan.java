@@ -0,0 +1,80 @@
+package software.amazon.sns.topic;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static software.amazon.sns.topic.Translator.EMPTY_POLICY;
+
+/**
+ * Attribute writes needed to move a topic from the previous to the desired model, computed once per Update.
+ * Every changed attribute costs one SetTopicAttributes call, and a changed DataProtectionPolicy costs one
+ * PutDataProtectionPolicy call; attributes that did not change are left out.
+ */
+final class TopicAttributeUpdatePlan {
+    private final Map<TopicAttributeName, String> attributes;
+    private final boolean dataProtectionPolicyChanged;
+
+    private TopicAttributeUpdatePlan(final Map<TopicAttributeName, String> attributes, final boolean dataProtectionPolicyChanged) {
+        this.attributes = attributes;
+        this.dataProtectionPolicyChanged = dataProtectionPolicyChanged;
+    }
+
+    static TopicAttributeUpdatePlan between(final ResourceModel previousModel, final ResourceModel model) {
+        final Map<TopicAttributeName, String> attributes = new EnumMap<>(TopicAttributeName.class);
+
+        putIfChanged(attributes, TopicAttributeName.DISPLAY_NAME, previousModel.getDisplayName(), model.getDisplayName());
+        putIfChanged(attributes, TopicAttributeName.KMS_MASTER_KEY_ID, previousModel.getKmsMasterKeyId(), model.getKmsMasterKeyId());
+        putIfChanged(attributes, TopicAttributeName.SIGNATURE_VERSION, previousModel.getSignatureVersion(), model.getSignatureVersion());
+        if (previousModel.getTracingConfig() != null || model.getTracingConfig() != null) {
+            putIfChanged(attributes, TopicAttributeName.TRACING_CONFIG, previousModel.getTracingConfig(),
+                    model.getTracingConfig() != null ? model.getTracingConfig() : TracingMode.PASS_THROUGH.toString());
+        }
+        putIfChanged(attributes, TopicAttributeName.ARCHIVE_POLICY,
+                Translator.getArchivePolicyAsString(previousModel, EMPTY_POLICY),
+                Translator.getArchivePolicyAsString(model, EMPTY_POLICY));
+        putIfChanged(attributes, TopicAttributeName.CONTENT_BASED_DEDUPLICATION,
+                previousModel.getContentBasedDeduplication() != null ? previousModel.getContentBasedDeduplication().toString() : "false",
+                model.getContentBasedDeduplication() != null ? model.getContentBasedDeduplication().toString() : "false");
+
+        final boolean dataProtectionPolicyChanged = !StringUtils.equals(
+                Translator.getDataProtectionPolicyAsString(previousModel),
+                Translator.getDataProtectionPolicyAsString(model));
+
+        return new TopicAttributeUpdatePlan(attributes, dataProtectionPolicyChanged);
+    }
+
+    private static void putIfChanged(final Map<TopicAttributeName, String> attributes, final TopicAttributeName name,
+                                     final String previousValue, final String desiredValue) {
+        if (!StringUtils.equals(previousValue, desiredValue)) {
+            attributes.put(name, desiredValue);
+        }
+    }
+
+    /**
+     * Changed SetTopicAttributes attributes and their desired values.
+     */
+    Map<TopicAttributeName, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    boolean isDataProtectionPolicyChanged() {
+        return dataProtectionPolicyChanged;
+    }
+
+    boolean isEmpty() {
+        return getApiCallCount() == 0;
+    }
+
+    int getApiCallCount() {
+        return attributes.size() + (dataProtectionPolicyChanged ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SetTopicAttributes%s, PutDataProtectionPolicy: %s, ApiCalls: %d",
+                attributes.keySet(), dataProtectionPolicyChanged, getApiCallCount());
+    }
+}
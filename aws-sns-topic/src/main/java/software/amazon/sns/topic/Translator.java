@@ -12,7 +12,6 @@ import software.amazon.awssdk.services.sns.model.GetDataProtectionPolicyResponse
 import software.amazon.awssdk.services.sns.model.GetTopicAttributesRequest;
 import software.amazon.awssdk.services.sns.model.GetTopicAttributesResponse;
 import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicRequest;
-import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicResponse;
 import software.amazon.awssdk.services.sns.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.sns.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.sns.model.ListTopicsRequest;
@@ -86,8 +85,12 @@ public class Translator {
     }
 
     static GetTopicAttributesRequest translateToGetTopicAttributes(final ResourceModel model) {
+        return translateToGetTopicAttributes(model.getTopicArn());
+    }
+
+    static GetTopicAttributesRequest translateToGetTopicAttributes(final String topicArn) {
         return GetTopicAttributesRequest.builder()
-                .topicArn(model.getTopicArn())
+                .topicArn(topicArn)
                 .build();
     }
 
@@ -119,19 +122,11 @@ public class Translator {
     }
 
     static ResourceModel translateFromGetTopicAttributes(GetTopicAttributesResponse getTopicAttributesResponse,
-                                                         ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse,
+                                                         List<Subscription> subscriptions,
                                                          ListTagsForResourceResponse listTagsForResourceResponse,
                                                          GetDataProtectionPolicyResponse getDataProtectionPolicyResponse) {
         Map<String, String> attributes = getTopicAttributesResponse.attributes();
 
-        List<Subscription> subscriptions = streamOfOrEmpty(listSubscriptionsByTopicResponse.subscriptions())
-            .map(subscription -> Subscription.builder()
-                    .endpoint(subscription.endpoint())
-                    .protocol(subscription.protocol())
-                    .build())
-            .collect(Collectors.toList());
-
-
         return ResourceModel.builder()
                 .topicArn(attributes.get(TopicAttributeName.TOPIC_ARN.toString()))
                 .topicName(getTopicNameFromArn(attributes.get(TopicAttributeName.TOPIC_ARN.toString())))
@@ -148,6 +143,13 @@ public class Translator {
                 .build();
     }
 
+    static Subscription translateSubscriptionFromSdk(software.amazon.awssdk.services.sns.model.Subscription subscription) {
+        return Subscription.builder()
+                .endpoint(subscription.endpoint())
+                .protocol(subscription.protocol())
+                .build();
+    }
+
   static List<Tag> translateTagsFromSdk(List<software.amazon.awssdk.services.sns.model.Tag> tags) {
     return streamOfOrEmpty(tags)
             .map(tag -> Tag.builder().key(tag.key()).value(tag.value()).build())
@@ -165,9 +167,10 @@ public class Translator {
                 .build();
     }
 
-    static ListSubscriptionsByTopicRequest translateToListSubscriptionByTopic(ResourceModel model) {
+    static ListSubscriptionsByTopicRequest translateToListSubscriptionByTopic(ResourceModel model, String nextToken) {
         return ListSubscriptionsByTopicRequest.builder()
                 .topicArn(model.getTopicArn())
+                .nextToken(nextToken)
                 .build();
     }
 
@@ -1,14 +1,14 @@
 package software.amazon.sns.topic;
 
-import com.google.common.collect.Sets;
-import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sns.model.AuthorizationErrorException;
 import software.amazon.awssdk.services.sns.model.InvalidParameterException;
+import software.amazon.awssdk.services.sns.model.GetDataProtectionPolicyResponse;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesResponse;
 import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicResponse;
-import software.amazon.awssdk.services.sns.model.PutDataProtectionPolicyRequest;
+import software.amazon.awssdk.services.sns.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.sns.model.ThrottledException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -17,18 +17,17 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-import static software.amazon.sns.topic.Translator.EMPTY_POLICY;
-
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String PRE_EXISTENCE_CHECK = "AWS-SNS-Topic::Update::PreExistanceCheck";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -49,124 +48,119 @@ public class UpdateHandler extends BaseHandlerStd {
         previousTags.addAll(Translator.convertResourceTagsToSet(request.getPreviousSystemTags()));
         desiredTags.addAll(Translator.convertResourceTagsToSet(request.getSystemTags()));
 
-        Set<Subscription> desiredSubscription = new HashSet<>(Optional.ofNullable(model.getSubscription()).orElse(Collections.emptyList()));
-        Set<Subscription> previousSubscription = new HashSet<>(Optional.ofNullable(previousModel.getSubscription()).orElse(Collections.emptyList()));
-        Set<Subscription> toSubscribe = Sets.difference(desiredSubscription, previousSubscription);
-        Set<Subscription> toUnsubscribe = Sets.difference(previousSubscription, desiredSubscription);
+        final SubscriptionDiff subscriptionDiff = SubscriptionDiff.between(previousModel.getSubscription(), model.getSubscription());
 
-        String previousDataProtectionPolicy = Translator.getDataProtectionPolicyAsString(previousModel);
-        String desiredDataProtectionPolicy = Translator.getDataProtectionPolicyAsString(model);
+        final TopicAttributeUpdatePlan attributeUpdatePlan = TopicAttributeUpdatePlan.between(previousModel, model);
+        logger.log(String.format("Update plan for topic %s: %s", model.getTopicArn(), attributeUpdatePlan));
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress ->
-                        proxy.initiate("AWS-SNS-Topic::Update::PreExistanceCheck", proxyClient, model, callbackContext)
+                .then(progress -> checkpoint(PRE_EXISTENCE_CHECK, progress, p ->
+                        proxy.initiate(PRE_EXISTENCE_CHECK, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToGetTopicAttributes)
                                 .makeServiceCall(this::getTopicAttributes)
                                 .progress()
-                )
-                .then(progress -> {
-                    if(!StringUtils.equals(model.getDisplayName(), previousModel.getDisplayName())) {
-                        return proxy.initiate("AWS-SNS-Topic::Update::DisplayName", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(m -> Translator.translateToSetAttributesRequest(m.getTopicArn(), TopicAttributeName.DISPLAY_NAME, m.getDisplayName()))
-                                .makeServiceCall((setTopicAttributesRequest, client) -> proxy.injectCredentialsAndInvokeV2(setTopicAttributesRequest, client.client()::setTopicAttributes))
-                                .progress();
-                    }
-                    return progress;
-                })
-                .then(progress -> {
-                    if(!StringUtils.equals(model.getKmsMasterKeyId(), previousModel.getKmsMasterKeyId())) {
-                        return proxy.initiate("AWS-SNS-Topic::Update::KMSKeyId", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(m -> Translator.translateToSetAttributesRequest(m.getTopicArn(), TopicAttributeName.KMS_MASTER_KEY_ID, m.getKmsMasterKeyId()))
-                                .makeServiceCall((setTopicAttributesRequest, client) -> proxy.injectCredentialsAndInvokeV2(setTopicAttributesRequest, client.client()::setTopicAttributes))
-                                .progress();
-                    }
-                    return progress;
-                })
-                .then(progress -> {
-                    if(!StringUtils.equals(model.getSignatureVersion(), previousModel.getSignatureVersion())) {
-                        return proxy.initiate("AWS-SNS-Topic::Update::SignatureVersion", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(m -> Translator.translateToSetAttributesRequest(m.getTopicArn(), TopicAttributeName.SIGNATURE_VERSION, m.getSignatureVersion()))
-                                .makeServiceCall((setTopicAttributesRequest, client) -> proxy.injectCredentialsAndInvokeV2(setTopicAttributesRequest, client.client()::setTopicAttributes))
-                                .progress();
-                    }
-                    return progress;
-                })
-                .then(progress -> {
-                    if ( previousModel.getTracingConfig() == null && model.getTracingConfig() == null) {
-                        return progress;
-                    }
-                    String previousVal = previousModel.getTracingConfig();
-                    String desiredVal =  model.getTracingConfig() != null ? model.getTracingConfig().toString() : TracingMode.PASS_THROUGH.toString();
-                    if(!StringUtils.equals(previousVal, desiredVal)) {
-                        return proxy.initiate("AWS-SNS-Topic::Update::TracingConfig", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(m -> Translator.translateToSetAttributesRequest(m.getTopicArn(), TopicAttributeName.TRACING_CONFIG, desiredVal))
-                                .makeServiceCall((setTopicAttributesRequest, client) -> proxy.injectCredentialsAndInvokeV2(setTopicAttributesRequest, client.client()::setTopicAttributes))
-                                .progress();
-                    }
-                    return progress;
-                })
-                .then(progress -> {
-                    String previousArchivePolicy = Translator.getArchivePolicyAsString(previousModel, EMPTY_POLICY);
-                    String desiredArchivePolicy = Translator.getArchivePolicyAsString(model, EMPTY_POLICY);
-                    if(!StringUtils.equals(previousArchivePolicy, desiredArchivePolicy)) {
-                        return proxy.initiate("AWS-SNS-Topic::Update::ArchivePolicy", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(m -> Translator.translateToSetAttributesRequest(m.getTopicArn(), TopicAttributeName.ARCHIVE_POLICY, desiredArchivePolicy))
-                                .makeServiceCall((setTopicAttributesRequest, client) -> proxy.injectCredentialsAndInvokeV2(setTopicAttributesRequest, client.client()::setTopicAttributes))
-                                .progress();
+                ))
+                .then(progress -> checkpoint("AWS-SNS-Topic::Update::Attributes", progress, p -> {
+                    if (attributeUpdatePlan.isEmpty()) {
+                        return p;
                     }
-                    return progress;
-                })
-                .then(progress -> {
-                    String previousVal = previousModel.getContentBasedDeduplication() != null ? previousModel.getContentBasedDeduplication().toString() : "false";
-                    String desiredVal =  model.getContentBasedDeduplication() != null ? model.getContentBasedDeduplication().toString() : "false";
-                    if (!StringUtils.equals(previousVal, desiredVal)) {
-                        return proxy.initiate("AWS-SNS-Topic::Update::ContentBasedDeduplication", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(m -> Translator.translateToSetAttributesRequest(m.getTopicArn(), TopicAttributeName.CONTENT_BASED_DEDUPLICATION, desiredVal))
-                                .makeServiceCall((setTopicAttributesRequest, client) -> proxy.injectCredentialsAndInvokeV2(setTopicAttributesRequest, client.client()::setTopicAttributes))
-                                .progress();
+                    return proxy.initiate("AWS-SNS-Topic::Update::Attributes", proxyClient, model, callbackContext)
+                            .translateToServiceRequest(m -> m)
+                            .makeServiceCall((m, client) -> writeAttributes(client, m, attributeUpdatePlan))
+                            .handleError(this::handleAttributeWriteError)
+                            .progress();
+                }))
+                .then(progress -> checkpoint("AWS-SNS-Topic::Update::ListSubscriptionArn", progress, p -> {
+                    if (subscriptionDiff.getToUnsubscribe().isEmpty()) {
+                        return p;
                     }
-                    return progress;
-                })
-                .then(progress -> {
-                    if (!StringUtils.equals(previousDataProtectionPolicy, desiredDataProtectionPolicy)) {
-                        return proxy.initiate("AWS-SNS-Topic::Update::DataProtectionPolicy", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(m -> Translator.translatePutDataProtectionPolicyRequest(model))
-                                .makeServiceCall((putDataProtectionPolicyRequest, client) -> proxy.injectCredentialsAndInvokeV2(putDataProtectionPolicyRequest, client.client()::putDataProtectionPolicy))
-                                .handleError(this::handlePutDataProtectionPolicyError)
-                                .progress();
-                    }
-                    return progress;
-                })
-                .then(progress ->
-                        proxy.initiate("AWS-SNS-Topic::Update::ListSubscriptionArn", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToListSubscriptionByTopic)
-                                .makeServiceCall((listSubscriptionsByTopicRequest, client) -> {
-                                    ListSubscriptionsByTopicResponse response = proxy.injectCredentialsAndInvokeV2(listSubscriptionsByTopicRequest, client.client()::listSubscriptionsByTopic);
-                                    List<String> unsubscriptionArnList = getUnsubscriptionArnList(response.subscriptions(), toUnsubscribe);
-                                    callbackContext.setSubscriptionArnToUnsubscribe(unsubscriptionArnList);
-                                    return response;
-                                })
-                                .progress()
-                )
-                .then(progress -> removeSubscription(proxy, proxyClient, progress, logger))
-                .then(progress -> addSubscription(proxy, proxyClient, progress, new ArrayList<>(toSubscribe), logger))
-                .then(progress -> modifyTags(proxy, proxyClient, model, desiredTags, previousTags, progress, logger))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                    return proxy.initiate("AWS-SNS-Topic::Update::ListSubscriptionArn", proxyClient, model, callbackContext)
+                            .translateToServiceRequest(m -> m)
+                            .makeServiceCall((m, client) -> {
+                                final SubscriptionDiff.UnsubscribeArnResolver resolver = subscriptionDiff.unsubscribeArnResolver();
+                                final ListSubscriptionsByTopicResponse response = listSubscriptionsByTopic(client, m, resolver::accept);
+                                callbackContext.setSubscriptionArnToUnsubscribe(resolver.getSubscriptionArns());
+                                return response;
+                            })
+                            .progress();
+                }))
+                .then(progress -> checkpoint("AWS-SNS-Topic::Update::Unsubscribe", progress, p -> removeSubscription(proxyClient, p, logger)))
+                .then(progress -> checkpoint("AWS-SNS-Topic::Update::Subscribe", progress, p -> addSubscription(proxyClient, p, subscriptionDiff.getToSubscribe(), logger)))
+                .then(progress -> checkpoint("AWS-SNS-Topic::Update::Tags", progress, p -> modifyTags(proxy, proxyClient, model, desiredTags, previousTags, p, logger)))
+                .then(progress -> buildUpdatedModel(proxyClient, model, attributeUpdatePlan, desiredTags, callbackContext));
     }
 
-    private List<String> getUnsubscriptionArnList(List<software.amazon.awssdk.services.sns.model.Subscription> subscriptions, Set<Subscription> unsubscribes) {
-        Map<String, String> subscriptionArnMap = Translator.streamOfOrEmpty(subscriptions)
-                .collect(Collectors.toMap(subscription -> getEndpointProtocolString(subscription.endpoint(), subscription.protocol()), subscription -> subscription.subscriptionArn()));
+    /**
+     * Builds the returned model from the pre-existence check response and the values this update wrote instead of
+     * reading the whole topic again. ArchivePolicy and DataProtectionPolicy are JSON documents that SNS may normalize,
+     * so they are re-read, but only when this update wrote them. An attribute cleared by this update is dropped rather
+     * than carried over from the pre-existence check.
+     *
+     * <p>Tags are taken from the desired tags, which the tagging stage has reconciled the topic to. Subscriptions are
+     * listed again, as ReadHandler does, because the topic may also carry subscriptions that were created outside the
+     * stack or by AWS::SNS::Subscription resources, and the model lists every one of them.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> buildUpdatedModel(
+            final ProxyClient<SnsClient> proxyClient,
+            final ResourceModel model,
+            final TopicAttributeUpdatePlan plan,
+            final Set<Tag> desiredTags,
+            final CallbackContext callbackContext) {
+        final GetTopicAttributesResponse getTopicAttributesResponse;
+        if (plan.getAttributes().containsKey(TopicAttributeName.ARCHIVE_POLICY)) {
+            getTopicAttributesResponse = getTopicAttributes(Translator.translateToGetTopicAttributes(model), proxyClient);
+        } else {
+            final GetTopicAttributesResponse preExistenceCheckResponse = callbackContext.findFirstResponseByContains(PRE_EXISTENCE_CHECK);
+            final Map<String, String> attributes = new HashMap<>(preExistenceCheckResponse.attributes());
+            plan.getAttributes().forEach((name, value) -> {
+                if (value == null) {
+                    attributes.remove(name.toString());
+                } else {
+                    attributes.put(name.toString(), value);
+                }
+            });
+            getTopicAttributesResponse = GetTopicAttributesResponse.builder().attributes(attributes).build();
+        }
 
-        return Translator.streamOfOrEmpty(unsubscribes).map(u -> subscriptionArnMap.get(getEndpointProtocolString(u.getEndpoint(), u.getProtocol()))).collect(Collectors.toList());
+        GetDataProtectionPolicyResponse getDataProtectionPolicyResponse = null;
+        if (isFifoTopic(getTopicAttributesResponse.attributes())) { // only standard topic supports data protection policy
+            logger.log(String.format("Topic %s is a FIFO topic, skipping data protection policy", model.getTopicArn()));
+        } else if (plan.isDataProtectionPolicyChanged()) {
+            getDataProtectionPolicyResponse = invokeGetDataProtectionPolicy(proxyClient, model.getTopicArn(), logger);
+        } else {
+            getDataProtectionPolicyResponse = GetDataProtectionPolicyResponse.builder()
+                    .dataProtectionPolicy(Translator.getDataProtectionPolicyAsString(model))
+                    .build();
+        }
+
+        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+                .tags(Translator.translateTagsToSdk(desiredTags))
+                .build();
+        final List<Subscription> subscriptions = invokeListSubscriptionsByTopic(proxyClient, model, logger);
+
+        return ProgressEvent.success(Translator.translateFromGetTopicAttributes(getTopicAttributesResponse, subscriptions,
+                listTagsForResourceResponse, getDataProtectionPolicyResponse), callbackContext);
     }
 
-    private String getEndpointProtocolString(String endpoint, String protocol) {
-        return String.format("[%s][%s]", endpoint, protocol);
+    /**
+     * Sends the SetTopicAttributes and PutDataProtectionPolicy calls of the plan at the same time and waits for all of
+     * them; the first failure is rethrown once every write has finished.
+     */
+    private List<String> writeAttributes(final ProxyClient<SnsClient> client, final ResourceModel model, final TopicAttributeUpdatePlan plan) {
+        final List<CompletableFuture<?>> writes = new ArrayList<>();
+        plan.getAttributes().forEach((name, value) -> writes.add(BoundedExecutor.submit(() -> client.injectCredentialsAndInvokeV2(
+                Translator.translateToSetAttributesRequest(model.getTopicArn(), name, value), client.client()::setTopicAttributes))));
+        if (plan.isDataProtectionPolicyChanged()) {
+            writes.add(BoundedExecutor.submit(() -> client.injectCredentialsAndInvokeV2(
+                    Translator.translatePutDataProtectionPolicyRequest(model), client.client()::putDataProtectionPolicy)));
+        }
+        BoundedExecutor.awaitAll(writes.toArray(new CompletableFuture<?>[0]));
+        writes.forEach(BoundedExecutor::join);
+        return plan.getAttributes().keySet().stream().map(TopicAttributeName::toString).collect(Collectors.toList());
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> handlePutDataProtectionPolicyError(
-            final PutDataProtectionPolicyRequest request,
+    private ProgressEvent<ResourceModel, CallbackContext> handleAttributeWriteError(
+            final ResourceModel request,
             final Exception ex,
             final ProxyClient<SnsClient> proxyClient,
             final ResourceModel model,
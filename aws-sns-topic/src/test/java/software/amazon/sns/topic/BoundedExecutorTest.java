@@ -0,0 +1,52 @@
+package software.amazon.sns.topic;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedExecutorTest {
+
+    @Test
+    public void testJoinReturnsResult() {
+        final CompletableFuture<String> call = BoundedExecutor.submit(() -> "result");
+
+        BoundedExecutor.awaitAll(call);
+
+        assertThat(BoundedExecutor.join(call)).isEqualTo("result");
+    }
+
+    @Test
+    public void testAwaitAllDoesNotThrowAndJoinRethrowsRuntimeException() {
+        final CompletableFuture<String> failed = BoundedExecutor.submit(() -> {
+            throw new CfnThrottlingException(new RuntimeException());
+        });
+        final CompletableFuture<String> succeeded = BoundedExecutor.submit(() -> "result");
+
+        BoundedExecutor.awaitAll(failed, succeeded);
+
+        assertThat(succeeded).isCompleted();
+        assertThrows(CfnThrottlingException.class, () -> BoundedExecutor.join(failed));
+    }
+
+    @Test
+    public void testJoinRethrowsError() {
+        final CompletableFuture<String> call = new CompletableFuture<>();
+        call.completeExceptionally(new AssertionError());
+
+        assertThrows(AssertionError.class, () -> BoundedExecutor.join(call));
+    }
+
+    @Test
+    public void testJoinWrapsCheckedException() {
+        final CompletableFuture<String> call = new CompletableFuture<>();
+        call.completeExceptionally(new IOException());
+
+        assertThrows(CompletionException.class, () -> BoundedExecutor.join(call));
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,10 +97,278 @@ public class CreateHandlerTest extends AbstractTestBase {
         validateResponseSuccess(response);
 
         verify(proxyClient.client()).createTopic(any(CreateTopicRequest.class));
-        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).subscribe(any(SubscribeRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TopicNotVisible_SubscribesOnReinvocation() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .subscription(subscriptions)
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        final GetTopicAttributesResponse getTopicAttributesResponse = GetTopicAttributesResponse.builder()
+                .attributes(attributes)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenThrow(NotFoundException.builder().message("no topic found").build())
+                .thenThrow(NotFoundException.builder().message("no topic found").build())
+                .thenReturn(getTopicAttributesResponse);
+
+        final CreateTopicResponse createTopicResponse = CreateTopicResponse.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+        when(proxyClient.client().createTopic(any(CreateTopicRequest.class))).thenReturn(createTopicResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .logicalResourceIdentifier("SnsTopic")
+                .clientRequestToken("dummy-token")
+                .region("us-east-1")
+                .awsAccountId("1234567890")
+                .stackId("stackid")
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.TOPIC_VISIBILITY_CALLBACK_DELAY_SECONDS);
+        assertThat(inProgress.getCallbackContext().getTopicVisibilityProbes()).isEqualTo(1);
+        verify(proxyClient.client(), never()).subscribe(any(SubscribeRequest.class));
+
+        final ResourceHandlerRequest<ResourceModel> callbackRequest = request.toBuilder()
+                .desiredResourceState(inProgress.getResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, callbackRequest, inProgress.getCallbackContext(), proxyClient, logger);
+
+        validateResponseSuccess(response);
+        verify(proxyClient.client()).createTopic(any(CreateTopicRequest.class));
+        verify(proxyClient.client(), times(3)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client()).subscribe(any(SubscribeRequest.class));
     }
 
+    @Test
+    public void handleRequest_SubscribePartialFailure_ReinvocationSendsOnlyRemaining() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        subscriptions.add(Subscription.builder().endpoint("def@xyz.com").protocol("email").build());
+        subscriptions.add(Subscription.builder().endpoint("ghi@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenThrow(NotFoundException.builder().message("no topic found").build())
+                .thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().createTopic(any(CreateTopicRequest.class))).thenReturn(CreateTopicResponse.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build());
+        final Map<String, Integer> subscribeCalls = new HashMap<>();
+        when(proxyClient.client().subscribe(any(SubscribeRequest.class))).thenAnswer(invocation -> {
+            final String endpoint = invocation.<SubscribeRequest>getArgument(0).endpoint();
+            synchronized (subscribeCalls) {
+                if (subscribeCalls.merge(endpoint, 1, Integer::sum) == 1 && !"abc@xyz.com".equals(endpoint)) {
+                    throw InternalErrorException.builder().message("Internal Error").build();
+                }
+            }
+            return SubscribeResponse.builder().build();
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .logicalResourceIdentifier("SnsTopic")
+                .clientRequestToken("dummy-token")
+                .region("us-east-1")
+                .awsAccountId("1234567890")
+                .stackId("stackid")
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.SUBSCRIPTION_RETRY_CALLBACK_DELAY_SECONDS);
+        assertThat(inProgress.getCallbackContext().getCompletedSubscriptionCalls()).containsExactly("Subscribe:email:abc@xyz.com");
+
+        final ResourceHandlerRequest<ResourceModel> callbackRequest = request.toBuilder()
+                .desiredResourceState(inProgress.getResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, callbackRequest, inProgress.getCallbackContext(), proxyClient, logger);
+
+        validateResponseSuccess(response);
+        verify(proxyClient.client()).createTopic(any(CreateTopicRequest.class));
+        verify(proxyClient.client(), times(3)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).subscribe(argThat((SubscribeRequest r) -> "abc@xyz.com".equals(r.endpoint())));
+        verify(proxyClient.client(), times(2)).subscribe(argThat((SubscribeRequest r) -> "def@xyz.com".equals(r.endpoint())));
+        verify(proxyClient.client(), times(2)).subscribe(argThat((SubscribeRequest r) -> "ghi@xyz.com".equals(r.endpoint())));
+    }
+
+    @Test
+    public void handleRequest_TopicNeverVisible() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenThrow(NotFoundException.builder().message("no topic found").build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setTopicVisibilityProbes(BaseHandlerStd.TOPIC_VISIBILITY_MAX_PROBES - 1);
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(model, callbackContext);
+
+        assertThrows(CfnNotStabilizedException.class, () -> handler.createSubscriptions(proxyClient, progress, logger));
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TopicVisibilityProbeThrottled() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenThrow(ThrottledException.builder().message("throttled").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(model, new CallbackContext());
+
+        assertThrows(CfnThrottlingException.class, () -> handler.createSubscriptions(proxyClient, progress, logger));
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SubscribeAuthorizationError() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().subscribe(any(SubscribeRequest.class)))
+                .thenThrow(AuthorizationErrorException.builder().message("Access Denied").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(model, new CallbackContext());
+
+        assertThrows(CfnAccessDeniedException.class, () -> handler.createSubscriptions(proxyClient, progress, logger));
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).subscribe(any(SubscribeRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SubscribeServiceError() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().subscribe(any(SubscribeRequest.class)))
+                .thenThrow(InvalidParameterException.builder().message("Invalid parameter: Endpoint").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(model, new CallbackContext());
+
+        assertThrows(CfnGeneralServiceException.class, () -> handler.createSubscriptions(proxyClient, progress, logger));
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).subscribe(any(SubscribeRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SubscribeRetriesExhausted() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().subscribe(any(SubscribeRequest.class)))
+                .thenThrow(InternalErrorException.builder().message("Internal Error").build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setSubscriptionRetryAttempts(BaseHandlerStd.SUBSCRIPTION_RETRY_MAX_ATTEMPTS);
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(model, callbackContext);
+
+        assertThrows(CfnGeneralServiceException.class, () -> handler.createSubscriptions(proxyClient, progress, logger));
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).subscribe(any(SubscribeRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DuplicateSubscriptionSubscribedOnce() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().subscribe(any(SubscribeRequest.class))).thenReturn(SubscribeResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.createSubscriptions(proxyClient, ProgressEvent.progress(model, callbackContext), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.getCompletedSubscriptionCalls()).containsExactly("Subscribe:email:abc@xyz.com");
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).subscribe(any(SubscribeRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SubscribePartialFailure_RetriesOnlyRemaining() {
+        final List<Subscription> subscriptions = new ArrayList<>();
+        subscriptions.add(Subscription.builder().endpoint("abc@xyz.com").protocol("email").build());
+        subscriptions.add(Subscription.builder().endpoint("def@xyz.com").protocol("email").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().subscribe(argThat((SubscribeRequest r) -> r != null && "abc@xyz.com".equals(r.endpoint()))))
+                .thenReturn(SubscribeResponse.builder().build());
+        when(proxyClient.client().subscribe(argThat((SubscribeRequest r) -> r != null && "def@xyz.com".equals(r.endpoint()))))
+                .thenThrow(InternalErrorException.builder().message("Internal Error").build())
+                .thenReturn(SubscribeResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(model, callbackContext);
+
+        final ProgressEvent<ResourceModel, CallbackContext> retry = handler.createSubscriptions(proxyClient, progress, logger);
+        assertThat(retry.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(retry.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.SUBSCRIPTION_RETRY_CALLBACK_DELAY_SECONDS);
+        assertThat(retry.getCallbackContext().getSubscriptionRetryAttempts()).isEqualTo(1);
+        assertThat(callbackContext.getCompletedSubscriptionCalls()).containsExactly("Subscribe:email:abc@xyz.com");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.createSubscriptions(proxyClient, progress, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(callbackContext.getCompletedSubscriptionCalls()).containsExactlyInAnyOrder("Subscribe:email:abc@xyz.com", "Subscribe:email:def@xyz.com");
+        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).subscribe(argThat((SubscribeRequest r) -> "abc@xyz.com".equals(r.endpoint())));
+        verify(proxyClient.client(), times(2)).subscribe(argThat((SubscribeRequest r) -> "def@xyz.com".equals(r.endpoint())));
+    }
+
     @Test
     public void handleRequest_SimpleSuccess_FifoTopic() {
         String fifoTopicName = "sns-topic-name.fifo";
@@ -61,7 +61,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
         final GetTopicAttributesResponse getTopicAttributesResponse = GetTopicAttributesResponse.builder()
                 .attributes(attributes)
                 .build();
-        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(getTopicAttributesResponse)
+                .thenThrow(NotFoundException.builder().message("no topic found").build());
         final DeleteTopicResponse deleteTopicResponse = DeleteTopicResponse.builder().build();
         when(proxyClient.client().deleteTopic(any(DeleteTopicRequest.class))).thenReturn(deleteTopicResponse);
 
@@ -75,7 +77,85 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).deleteTopic(any(DeleteTopicRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WaitsForDeletionToConverge() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+
+        final GetTopicAttributesResponse getTopicAttributesResponse = GetTopicAttributesResponse.builder().build();
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(getTopicAttributesResponse)
+                .thenReturn(getTopicAttributesResponse)
+                .thenThrow(ThrottledException.builder().message("throttled").build())
+                .thenThrow(NotFoundException.builder().message("no topic found").build());
+        when(proxyClient.client().deleteTopic(any(DeleteTopicRequest.class))).thenReturn(DeleteTopicResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
+        assertThat(response.getCallbackContext().getDeleteStabilizationPolls()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getDeleteStabilizationStartTime()).isNotNull();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(response.getCallbackContext().getDeleteStabilizationPolls()).isEqualTo(2);
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+
+        verify(proxyClient.client(), times(4)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).deleteTopic(any(DeleteTopicRequest.class));
+    }
+
+    @Test
+    public void handleRequest_BackoffIsCapped() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().deleteTopic(any(DeleteTopicRequest.class))).thenReturn(DeleteTopicResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setDeleteStabilizationPolls(5);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(20);
+
+        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).deleteTopic(any(DeleteTopicRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StabilizationTimeout() {
+        handler = new DeleteHandler(Duration.ofSeconds(5L), Duration.ofSeconds(20L), Duration.ZERO);
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().deleteTopic(any(DeleteTopicRequest.class))).thenReturn(DeleteTopicResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+
+        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client()).deleteTopic(any(DeleteTopicRequest.class));
     }
 
@@ -0,0 +1,137 @@
+package software.amazon.sns.topic;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.sns.model.InternalErrorException;
+import software.amazon.awssdk.services.sns.model.SnsException;
+import software.amazon.awssdk.services.sns.model.ThrottledException;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SubscriptionCallExecutorTest {
+
+    private final SubscriptionCallExecutor executor = new SubscriptionCallExecutor(Duration.ofMillis(1), Duration.ofMillis(4));
+
+    @Test
+    public void testInvokeAllRecordsCompletedCalls() {
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("a", () -> "a");
+        calls.put("b", () -> "b");
+        final Set<String> completed = new HashSet<>();
+
+        executor.invokeAll(calls, completed);
+
+        assertThat(completed).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    public void testInvokeAllSkipsCompletedCalls() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("a", invocations::incrementAndGet);
+        calls.put("b", invocations::incrementAndGet);
+        final Set<String> completed = new HashSet<>();
+        completed.add("a");
+
+        executor.invokeAll(calls, completed);
+
+        assertThat(invocations.get()).isEqualTo(1);
+        assertThat(completed).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    public void testInvokeAllRethrowsFirstFailureAfterAllCalls() {
+        final InternalErrorException first = InternalErrorException.builder().message("first").build();
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("a", () -> {
+            throw first;
+        });
+        calls.put("b", () -> "b");
+        calls.put("c", () -> {
+            throw InternalErrorException.builder().message("second").build();
+        });
+        final Set<String> completed = new HashSet<>();
+
+        final InternalErrorException thrown = assertThrows(InternalErrorException.class, () -> executor.invokeAll(calls, completed));
+
+        assertThat(thrown).isSameAs(first);
+        assertThat(completed).containsExactly("b");
+    }
+
+    @Test
+    public void testInvokeAllRetriesThrottledCall() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("a", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw ThrottledException.builder().message("Rate exceeded").build();
+            }
+            return "a";
+        });
+        final Set<String> completed = new HashSet<>();
+
+        executor.invokeAll(calls, completed);
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(completed).containsExactly("a");
+    }
+
+    @Test
+    public void testInvokeAllRetriesQueryProtocolThrottling() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("a", () -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw SnsException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").errorMessage("Rate exceeded").build())
+                        .build();
+            }
+            return "a";
+        });
+        final Set<String> completed = new HashSet<>();
+
+        executor.invokeAll(calls, completed);
+
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(completed).containsExactly("a");
+    }
+
+    @Test
+    public void testInvokeAllDoesNotRetryOtherServiceErrors() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("a", () -> {
+            attempts.incrementAndGet();
+            throw InternalErrorException.builder().message("Internal Error").build();
+        });
+
+        assertThrows(InternalErrorException.class, () -> executor.invokeAll(calls, new HashSet<>()));
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvokeAllGivesUpAfterMaxAttempts() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("a", () -> {
+            attempts.incrementAndGet();
+            throw ThrottledException.builder().message("Rate exceeded").build();
+        });
+        final Set<String> completed = new HashSet<>();
+
+        assertThrows(ThrottledException.class, () -> executor.invokeAll(calls, completed));
+
+        assertThat(attempts.get()).isEqualTo(SubscriptionCallExecutor.MAX_ATTEMPTS);
+        assertThat(completed).isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package software.amazon.sns.topic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionDiffTest {
+
+    private static final Subscription EMAIL = Subscription.builder().endpoint("abc@xyz.com").protocol("email").build();
+    private static final Subscription QUEUE = Subscription.builder().endpoint("arn:aws:sqs:us-east-1:123456789012:queue").protocol("sqs").build();
+    private static final Subscription LAMBDA = Subscription.builder().endpoint("arn:aws:lambda:us-east-1:123456789012:function:fn").protocol("lambda").build();
+
+    @Test
+    public void testBetween() {
+        final SubscriptionDiff diff = SubscriptionDiff.between(Arrays.asList(EMAIL, QUEUE), Arrays.asList(QUEUE, LAMBDA));
+
+        assertThat(diff.getToSubscribe()).containsExactly(LAMBDA);
+        assertThat(diff.getToUnsubscribe()).containsExactly(EMAIL);
+    }
+
+    @Test
+    public void testBetweenNullLists() {
+        final SubscriptionDiff diff = SubscriptionDiff.between(null, null);
+
+        assertThat(diff.getToSubscribe()).isEmpty();
+        assertThat(diff.getToUnsubscribe()).isEmpty();
+    }
+
+    @Test
+    public void testBetweenCollapsesDuplicates() {
+        final SubscriptionDiff diff = SubscriptionDiff.between(Arrays.asList(EMAIL, EMAIL, QUEUE, QUEUE), Arrays.asList(QUEUE, LAMBDA, LAMBDA));
+
+        assertThat(diff.getToSubscribe()).containsExactly(LAMBDA);
+        assertThat(diff.getToUnsubscribe()).containsExactly(EMAIL);
+    }
+
+    @Test
+    public void testUnsubscribeArnResolverPrefersConfirmedArn() {
+        final SubscriptionDiff.UnsubscribeArnResolver resolver =
+                SubscriptionDiff.between(Arrays.asList(EMAIL, QUEUE), Collections.emptyList()).unsubscribeArnResolver();
+
+        assertThat(resolver.accept(Arrays.asList(
+                sdkSubscription(EMAIL, "PendingConfirmation"),
+                sdkSubscription(LAMBDA, "lambda-arn")))).isTrue();
+        assertThat(resolver.getSubscriptionArns()).containsExactly("PendingConfirmation", null);
+
+        assertThat(resolver.accept(Arrays.asList(
+                sdkSubscription(QUEUE, "queue-arn"),
+                sdkSubscription(EMAIL, "email-arn")))).isFalse();
+        assertThat(resolver.getSubscriptionArns()).containsExactly("email-arn", "queue-arn");
+    }
+
+    @Test
+    public void testUnsubscribeArnResolverNothingWanted() {
+        final SubscriptionDiff.UnsubscribeArnResolver resolver =
+                SubscriptionDiff.between(Collections.emptyList(), Collections.singletonList(EMAIL)).unsubscribeArnResolver();
+
+        assertThat(resolver.accept(null)).isFalse();
+        assertThat(resolver.getSubscriptionArns()).isEmpty();
+    }
+
+    private software.amazon.awssdk.services.sns.model.Subscription sdkSubscription(Subscription subscription, String subscriptionArn) {
+        return software.amazon.awssdk.services.sns.model.Subscription.builder()
+                .endpoint(subscription.getEndpoint())
+                .protocol(subscription.getProtocol())
+                .subscriptionArn(subscriptionArn)
+                .build();
+    }
+}
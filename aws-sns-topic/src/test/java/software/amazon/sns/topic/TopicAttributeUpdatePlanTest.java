@@ -0,0 +1,70 @@
+package software.amazon.sns.topic;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicAttributeUpdatePlanTest {
+
+    @Test
+    public void testBetweenUnchangedModels() {
+        final ResourceModel model = ResourceModel.builder()
+                .displayName("display-name")
+                .tracingConfig(TracingMode.ACTIVE.toString())
+                .build();
+
+        final TopicAttributeUpdatePlan plan = TopicAttributeUpdatePlan.between(model, model);
+
+        assertThat(plan.isEmpty()).isTrue();
+        assertThat(plan.getApiCallCount()).isEqualTo(0);
+        assertThat(plan.toString()).isEqualTo("SetTopicAttributes[], PutDataProtectionPolicy: false, ApiCalls: 0");
+    }
+
+    @Test
+    public void testBetweenChangedModels() {
+        final ResourceModel previousModel = ResourceModel.builder()
+                .displayName("display-name")
+                .signatureVersion("1")
+                .tracingConfig(TracingMode.ACTIVE.toString())
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .displayName("new-display-name")
+                .signatureVersion("1")
+                .kmsMasterKeyId("alias/key")
+                .contentBasedDeduplication(true)
+                .archivePolicy(ImmutableMap.of("MessageRetentionPeriod", "30"))
+                .dataProtectionPolicy(ImmutableMap.of("key", "val"))
+                .build();
+
+        final TopicAttributeUpdatePlan plan = TopicAttributeUpdatePlan.between(previousModel, model);
+
+        assertThat(plan.getAttributes()).containsExactly(
+                entry(TopicAttributeName.DISPLAY_NAME, "new-display-name"),
+                entry(TopicAttributeName.KMS_MASTER_KEY_ID, "alias/key"),
+                entry(TopicAttributeName.CONTENT_BASED_DEDUPLICATION, "true"),
+                entry(TopicAttributeName.TRACING_CONFIG, TracingMode.PASS_THROUGH.toString()),
+                entry(TopicAttributeName.ARCHIVE_POLICY, "{\"MessageRetentionPeriod\":\"30\"}"));
+        assertThat(plan.isDataProtectionPolicyChanged()).isTrue();
+        assertThat(plan.isEmpty()).isFalse();
+        assertThat(plan.getApiCallCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void testBetweenRemovedArchivePolicy() {
+        final ResourceModel previousModel = ResourceModel.builder()
+                .archivePolicy(ImmutableMap.of("MessageRetentionPeriod", "30"))
+                .build();
+        final ResourceModel model = ResourceModel.builder().build();
+
+        final TopicAttributeUpdatePlan plan = TopicAttributeUpdatePlan.between(previousModel, model);
+
+        assertThat(plan.getAttributes()).containsExactly(entry(TopicAttributeName.ARCHIVE_POLICY, Translator.EMPTY_POLICY));
+        assertThat(plan.isDataProtectionPolicyChanged()).isFalse();
+        assertThat(plan.getApiCallCount()).isEqualTo(1);
+    }
+
+    private static java.util.Map.Entry<TopicAttributeName, String> entry(final TopicAttributeName name, final String value) {
+        return new java.util.AbstractMap.SimpleEntry<>(name, value);
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sns.SnsClient;
@@ -16,6 +17,8 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.*;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,6 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -72,11 +76,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         validateResponseSuccess(response);
+        assertThat(response.getResourceModel().getDisplayName()).isEqualTo("topic-display-name");
+        assertThat(response.getResourceModel().getTopicName()).isEqualTo("sns-topic-name");
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
     @Test
@@ -100,10 +104,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
    @Test
@@ -127,10 +129,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
    }
 
     @Test
@@ -154,10 +154,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
     @Test
@@ -184,8 +182,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
     @Test
@@ -208,10 +204,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
     @Test
@@ -234,10 +228,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
     @Test
@@ -260,10 +252,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
         verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
     @Test
@@ -314,7 +304,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(tagResourceResponse);
         final UntagResourceResponse untagResourceResponse = UntagResourceResponse.builder().build();
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(untagResourceResponse);
-        readHandlerMocks();
+        listSubscriptionsMocks();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -327,11 +317,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         validateResponseSuccess(response);
+        assertThat(response.getResourceModel().getTags()).containsExactlyInAnyOrder(
+                Tag.builder().key("key1").value("value1").build(),
+                Tag.builder().key("key3").value("value3").build(),
+                Tag.builder().key("aws:cloudformation:logical-id").value("value2").build());
         verify(proxyClient.client()).tagResource(any(TagResourceRequest.class));
         verify(proxyClient.client()).untagResource(any(UntagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
     }
 
     @Test
@@ -362,8 +355,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
     }
 
     @Test
@@ -386,8 +378,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenThrow(AuthorizationErrorException.builder().message("Tagging Access Denied").build());
-        final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse = ListSubscriptionsByTopicResponse.builder().build();
-        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class))).thenReturn(listSubscriptionsByTopicResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -418,8 +408,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenThrow(AuthorizationErrorException.builder().message("Untagging Access Denied").build());
-        final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse = ListSubscriptionsByTopicResponse.builder().build();
-        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class))).thenReturn(listSubscriptionsByTopicResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -450,8 +438,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenThrow(ConcurrentAccessException.builder().message("Tagging Concurrent Access").build());
-        final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse = ListSubscriptionsByTopicResponse.builder().build();
-        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class))).thenReturn(listSubscriptionsByTopicResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -482,8 +468,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenThrow(ConcurrentAccessException.builder().message("Tagging Concurrent Access").build());
-        final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse = ListSubscriptionsByTopicResponse.builder().build();
-        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class))).thenReturn(listSubscriptionsByTopicResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -518,7 +502,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
         final PutDataProtectionPolicyResponse putDataProtectionPolicyResponse = PutDataProtectionPolicyResponse.builder().build();
         when(proxyClient.client().putDataProtectionPolicy(any(PutDataProtectionPolicyRequest.class))).thenReturn(putDataProtectionPolicyResponse);
-        readHandlerMocks();
+        listSubscriptionsMocks();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -528,8 +512,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client()).putDataProtectionPolicy(any(PutDataProtectionPolicyRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
         verify(proxyClient.client(), times(1)).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
     }
 
@@ -553,7 +537,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .attributes(attributes)
                 .build();
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
-        readHandlerMocks();
+        listSubscriptionsMocks();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(model)
@@ -563,9 +547,104 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         validateResponseSuccess(response);
         verify(proxyClient.client(), never()).putDataProtectionPolicy(any(PutDataProtectionPolicyRequest.class));
-        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
-        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
-        verify(proxyClient.client(), times(1)).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess_MultipleAttributesWrittenInOneStage() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .displayName("topic-display-name")
+                .signatureVersion("2")
+                .dataProtectionPolicy(ImmutableMap.of("key", "val"))
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        setupUpdateHandlerMocks(attributes);
+        when(proxyClient.client().putDataProtectionPolicy(any(PutDataProtectionPolicyRequest.class))).thenReturn(PutDataProtectionPolicyResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        validateResponseSuccess(response);
+        verify(proxyClient.client()).setTopicAttributes(argThat((SetTopicAttributesRequest r) -> "DisplayName".equals(r.attributeName()) && "topic-display-name".equals(r.attributeValue())));
+        verify(proxyClient.client()).setTopicAttributes(argThat((SetTopicAttributesRequest r) -> "SignatureVersion".equals(r.attributeName()) && "2".equals(r.attributeValue())));
+        verify(proxyClient.client(), times(2)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+        verify(proxyClient.client()).putDataProtectionPolicy(any(PutDataProtectionPolicyRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SetTopicAttributesException() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .displayName("topic-display-name")
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(GetTopicAttributesResponse.builder().build());
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class))).thenThrow(InvalidParameterException.builder().message("Invalid parameter").build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertEquals(OperationStatus.FAILED, response.getStatus());
+        assertEquals(HandlerErrorCode.InvalidRequest, response.getErrorCode());
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReinvocationSkipsCompletedStages() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .displayName("topic-display-name")
+                .subscription(Collections.singletonList(Subscription.builder().endpoint("endpoint1").protocol("sqs").build()))
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        setupUpdateHandlerMocks(attributes);
+        when(proxyClient.client().subscribe(any(SubscribeRequest.class)))
+                .thenThrow(InternalErrorException.builder().message("Internal Error").build())
+                .thenReturn(SubscribeResponse.builder().build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .desiredResourceTags(ImmutableMap.of("key1", "value1"))
+                .build();
+
+        // a retryable Subscribe failure hands the context back to CloudFormation with a callback delay
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.SUBSCRIPTION_RETRY_CALLBACK_DELAY_SECONDS);
+        assertThat(inProgress.getCallbackContext().getCompletedStages()).containsExactly(
+                "AWS-SNS-Topic::Update::PreExistanceCheck",
+                "AWS-SNS-Topic::Update::Attributes",
+                "AWS-SNS-Topic::Update::ListSubscriptionArn",
+                "AWS-SNS-Topic::Update::Unsubscribe");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, inProgress.getCallbackContext(), proxyClient, logger);
+
+        validateResponseSuccess(response);
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).subscribe(any(SubscribeRequest.class));
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
     }
 
     @Test
@@ -626,6 +705,226 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertEquals(errorCode, response.getErrorCode());
     }
 
+    @Test
+    public void handleRequest_Unsubscribe_StopsPagingOnceArnResolved() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(Collections.singletonList(Subscription.builder().endpoint("endpoint1").protocol("sqs").build()))
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        final GetTopicAttributesResponse getTopicAttributesResponse = GetTopicAttributesResponse.builder()
+                .attributes(attributes)
+                .build();
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenAnswer(invocation -> "token1".equals(invocation.<ListSubscriptionsByTopicRequest>getArgument(0).nextToken())
+                        ? ListSubscriptionsByTopicResponse.builder().build()
+                        : ListSubscriptionsByTopicResponse.builder()
+                                .subscriptions(sdkSubscription("endpoint1", "sqs", "arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub1"))
+                                .nextToken("token1")
+                                .build());
+        when(proxyClient.client().unsubscribe(any(UnsubscribeRequest.class))).thenReturn(UnsubscribeResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        validateResponseSuccess(response);
+        // the unsubscribe lookup stops on the first page; only the final listing reads the "token1" page
+        final InOrder inOrder = inOrder(proxyClient.client());
+        inOrder.verify(proxyClient.client()).listSubscriptionsByTopic(argThat((ListSubscriptionsByTopicRequest r) -> r.nextToken() == null));
+        inOrder.verify(proxyClient.client()).unsubscribe(argThat((UnsubscribeRequest r) -> r.subscriptionArn().equals("arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub1")));
+        inOrder.verify(proxyClient.client()).listSubscriptionsByTopic(argThat((ListSubscriptionsByTopicRequest r) -> r.nextToken() == null));
+        inOrder.verify(proxyClient.client()).listSubscriptionsByTopic(argThat((ListSubscriptionsByTopicRequest r) -> "token1".equals(r.nextToken())));
+        verify(proxyClient.client(), times(3)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+        verify(proxyClient.client()).unsubscribe(any(UnsubscribeRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Unsubscribe_ArnOnLaterPage() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(Collections.singletonList(Subscription.builder().endpoint("endpoint2").protocol("sqs").build()))
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        final GetTopicAttributesResponse getTopicAttributesResponse = GetTopicAttributesResponse.builder()
+                .attributes(attributes)
+                .build();
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder()
+                        .subscriptions(sdkSubscription("endpoint1", "sqs", "arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub1"),
+                                sdkSubscription("endpoint2", "sqs", "PendingConfirmation"))
+                        .nextToken("token1")
+                        .build())
+                .thenReturn(ListSubscriptionsByTopicResponse.builder()
+                        .subscriptions(sdkSubscription("endpoint2", "sqs", "arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub2"))
+                        .build())
+                .thenReturn(ListSubscriptionsByTopicResponse.builder().build());
+        when(proxyClient.client().unsubscribe(any(UnsubscribeRequest.class))).thenReturn(UnsubscribeResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        validateResponseSuccess(response);
+        verify(proxyClient.client()).unsubscribe(argThat((UnsubscribeRequest r) -> r.subscriptionArn().equals("arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub2")));
+        // two pages for the unsubscribe lookup and one for the final listing
+        verify(proxyClient.client(), times(3)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ClearedAttributeNotCarriedOver() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .displayName("topic-display-name")
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.DISPLAY_NAME.toString(), "topic-display-name");
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        setupUpdateHandlerMocks(attributes);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        validateResponseSuccess(response);
+        assertThat(response.getResourceModel().getDisplayName()).isNull();
+        verify(proxyClient.client()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdatedModelMatchesRead() {
+        final java.util.List<Subscription> subscriptions = Collections.singletonList(Subscription.builder().endpoint("endpoint1").protocol("sqs").build());
+        final java.util.List<Tag> tags = Collections.singletonList(Tag.builder().key("key").value("value").build());
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .displayName("topic-display-name")
+                .subscription(subscriptions)
+                .tags(tags)
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(subscriptions)
+                .tags(tags)
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.DISPLAY_NAME.toString(), "topic-display-name");
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(GetTopicAttributesResponse.builder().attributes(attributes).build());
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class))).thenReturn(SetTopicAttributesResponse.builder().build());
+        // the topic also carries a subscription that is not in the template, which Update and Read both list
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder()
+                        .subscriptions(sdkSubscription("endpoint1", "sqs", "arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub1"),
+                                sdkSubscription("endpoint2", "lambda", "arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub2"))
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .desiredResourceTags(ImmutableMap.of("key", "value"))
+                .previousResourceTags(ImmutableMap.of("key", "value"))
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        validateResponseSuccess(response);
+
+        assertThat(response.getResourceModel().getSubscription()).hasSize(2);
+
+        // what ReadHandler lists once the update has reconciled the tags
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(software.amazon.awssdk.services.sns.model.Tag.builder().key("key").value("value").build())
+                        .build());
+        when(proxyClient.client().getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class)))
+                .thenReturn(GetDataProtectionPolicyResponse.builder().build());
+        final ProgressEvent<ResourceModel, CallbackContext> read = new ReadHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(response.getResourceModel()).build(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getResourceModel()).isEqualTo(read.getResourceModel());
+        verify(proxyClient.client(), times(2)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(proxyClient.client()).setTopicAttributes(any(SetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+        verify(proxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client()).getDataProtectionPolicy(any(GetDataProtectionPolicyRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UnsubscribePartialFailure_ReinvocationSendsOnlyRemaining() {
+        final ResourceModel model = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .topicArn("arn:aws:sns:us-east-1:123456789012:sns-topic-name")
+                .subscription(Arrays.asList(
+                        Subscription.builder().endpoint("endpoint1").protocol("sqs").build(),
+                        Subscription.builder().endpoint("endpoint2").protocol("sqs").build()))
+                .build();
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(TopicAttributeName.TOPIC_ARN.toString(), "arn:aws:sns:us-east-1:123456789012:sns-topic-name");
+        when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class)))
+                .thenReturn(GetTopicAttributesResponse.builder().attributes(attributes).build());
+        when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder()
+                        .subscriptions(sdkSubscription("endpoint1", "sqs", "arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub1"),
+                                sdkSubscription("endpoint2", "sqs", "arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub2"))
+                        .build());
+        final Map<String, Integer> unsubscribeCalls = new HashMap<>();
+        when(proxyClient.client().unsubscribe(any(UnsubscribeRequest.class))).thenAnswer(invocation -> {
+            final String subscriptionArn = invocation.<UnsubscribeRequest>getArgument(0).subscriptionArn();
+            synchronized (unsubscribeCalls) {
+                if (unsubscribeCalls.merge(subscriptionArn, 1, Integer::sum) == 1 && subscriptionArn.endsWith(":sub2")) {
+                    throw InternalErrorException.builder().message("Internal Error").build();
+                }
+            }
+            return UnsubscribeResponse.builder().build();
+        });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).previousResourceState(previousModel).build();
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.SUBSCRIPTION_RETRY_CALLBACK_DELAY_SECONDS);
+        assertThat(inProgress.getCallbackContext().getCompletedSubscriptionCalls())
+                .containsExactly("Unsubscribe:arn:aws:sns:us-east-1:123456789012:sns-topic-name:sub1");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, inProgress.getCallbackContext(), proxyClient, logger);
+
+        validateResponseSuccess(response);
+        verify(proxyClient.client()).unsubscribe(argThat((UnsubscribeRequest r) -> r.subscriptionArn().endsWith(":sub1")));
+        verify(proxyClient.client(), times(2)).unsubscribe(argThat((UnsubscribeRequest r) -> r.subscriptionArn().endsWith(":sub2")));
+        // the pre-existence check and the ARN lookup are not repeated on the re-invocation, which only lists the
+        // subscriptions for the returned model
+        verify(proxyClient.client(), times(2)).listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class));
+        verify(proxyClient.client(), times(1)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    private software.amazon.awssdk.services.sns.model.Subscription sdkSubscription(String endpoint, String protocol, String subscriptionArn) {
+        return software.amazon.awssdk.services.sns.model.Subscription.builder()
+                .endpoint(endpoint)
+                .protocol(protocol)
+                .subscriptionArn(subscriptionArn)
+                .build();
+    }
+
     private void validateResponseSuccess(final ProgressEvent<ResourceModel, CallbackContext> response) {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -642,13 +941,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().getTopicAttributes(any(GetTopicAttributesRequest.class))).thenReturn(getTopicAttributesResponse);
         final SetTopicAttributesResponse setTopicAttributesResponse = SetTopicAttributesResponse.builder().build();
         when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class))).thenReturn(setTopicAttributesResponse);
-        readHandlerMocks();
+        listSubscriptionsMocks();
     }
 
-    private void readHandlerMocks() {
+    private void listSubscriptionsMocks() {
         final ListSubscriptionsByTopicResponse listSubscriptionsByTopicResponse = ListSubscriptionsByTopicResponse.builder().build();
         when(proxyClient.client().listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class))).thenReturn(listSubscriptionsByTopicResponse);
-        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().build();
-        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
     }
 }
@@ -0,0 +1,65 @@
+package software.amazon.sns.topicpolicy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to canonicalize and compare policies with many statements, which is what a conditional write pays per topic
+ * on top of the read. The compared document has the same statements with keys in another order, whitespace and
+ * single actions wrapped in arrays, so it is equivalent. Run with {@code -prof gc} to see the allocation per
+ * comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyCanonicalizerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int statements;
+
+    private String policy;
+    private String reorderedPolicy;
+
+    @Setup
+    public void setup() {
+        final StringBuilder compact = new StringBuilder("{\"Version\":\"2012-10-17\",\"Statement\":[");
+        final StringBuilder reordered = new StringBuilder("{\n  \"Statement\": [\n");
+        for (int i = 0; i < statements; i++) {
+            if (i > 0) {
+                compact.append(',');
+                reordered.append(",\n");
+            }
+            compact.append("{\"Sid\":\"").append(i).append("\",\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"arn:aws:iam::123456789012:root\"},")
+                    .append("\"Action\":\"sns:Publish\",\"Resource\":\"arn:aws:sns:us-east-1:123456789012:topic").append(i).append("\"}");
+            reordered.append("    { \"Resource\": \"arn:aws:sns:us-east-1:123456789012:topic").append(i).append("\", \"Action\": [ \"sns:Publish\" ],")
+                    .append(" \"Principal\": { \"AWS\": \"arn:aws:iam::123456789012:root\" }, \"Effect\": \"Allow\", \"Sid\": \"").append(i).append("\" }");
+        }
+        policy = compact.append("]}").toString();
+        reorderedPolicy = reordered.append("\n  ],\n  \"Version\": \"2012-10-17\"\n}").toString();
+    }
+
+    @Benchmark
+    public String canonicalize() throws JsonProcessingException {
+        return PolicyCanonicalizer.canonicalize(reorderedPolicy);
+    }
+
+    @Benchmark
+    public boolean isEquivalent() {
+        return PolicyCanonicalizer.isEquivalent(reorderedPolicy, policy);
+    }
+}
@@ -0,0 +1,140 @@
+package software.amazon.sns.topicpolicy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Time to apply one policy to many topics against a client whose SetTopicAttributes takes {@code latencyMillis}, with
+ * one topic at a time and with the cap the handlers use. The capped run should take about
+ * {@code topics / maxConcurrency} call latencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class TopicPolicyApplierBenchmark {
+
+    @Param({"40", "400"})
+    public int topics;
+
+    @Param({"1", "10"})
+    public int maxConcurrency;
+
+    @Param({"20"})
+    public long latencyMillis;
+
+    private TopicPolicyApplier applier;
+    private ProxyClient<SnsClient> proxyClient;
+    private List<SetTopicAttributesRequest> requests;
+
+    @Setup
+    public void setup() {
+        applier = new TopicPolicyApplier(maxConcurrency);
+        proxyClient = new DirectProxyClient(new LatencySnsClient(latencyMillis));
+        requests = new ArrayList<>(topics);
+        for (int i = 0; i < topics; i++) {
+            requests.add(Translator.translateToRequest("arn:aws:sns:us-east-1:123456789012:topic" + i, "{\"Version\":\"2012-10-17\"}"));
+        }
+    }
+
+    @Benchmark
+    public List<TopicPolicyApplier.Failure> apply() {
+        return applier.apply(proxyClient, requests);
+    }
+
+    private static final class LatencySnsClient implements SnsClient {
+        private final long latencyMillis;
+
+        private LatencySnsClient(final long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public SetTopicAttributesResponse setTopicAttributes(final SetTopicAttributesRequest request) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return SetTopicAttributesResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class DirectProxyClient implements ProxyClient<SnsClient> {
+        private final SnsClient client;
+
+        private DirectProxyClient(final SnsClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+            return requestFunction.apply(request);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+                final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+                final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+                final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SnsClient client() {
+            return client;
+        }
+    }
+}
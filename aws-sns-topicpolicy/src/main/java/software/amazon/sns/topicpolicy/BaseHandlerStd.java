@@ -3,6 +3,7 @@ package software.amazon.sns.topicpolicy;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
 import software.amazon.awssdk.services.sns.model.SnsRequest;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -28,19 +29,32 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     private final SnsClient snsClient;
+    private final TopicPolicyApplier policyApplier;
 
     protected BaseHandlerStd() {
         this(ClientBuilder.getClient());
     }
 
     protected BaseHandlerStd(SnsClient snsClient) {
+        this(snsClient, new TopicPolicyApplier(TopicPolicyApplier.DEFAULT_MAX_CONCURRENCY));
+    }
+
+    BaseHandlerStd(TopicPolicyApplier policyApplier) {
+        this(ClientBuilder.getClient(), policyApplier);
+    }
+
+    BaseHandlerStd(SnsClient snsClient, TopicPolicyApplier policyApplier) {
         this.snsClient = requireNonNull(snsClient);
+        this.policyApplier = requireNonNull(policyApplier);
     }
 
     private SnsClient getSnsClient() {
@@ -109,6 +123,64 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
     }
 
+    /**
+     * Writes the policies of all topics in one proxy call, sending the SetTopicAttributes calls at the same time
+     * through the {@link TopicPolicyApplier}. The topics that failed are passed to {@link #handleError} one by one in
+     * request order and the first outcome that is not a success is returned, as if the topics had been written one
+     * after another.
+     * <p>
+     * Every topic that was written is added to {@code writtenTopics}, a ledger kept in the {@link CallbackContext}, and
+     * is skipped when the handler is invoked again after a retry, so a re-invocation only writes the remaining topics.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> applyPolicies(
+            final String callGraph,
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<SnsClient> proxyClient,
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final List<SetTopicAttributesRequest> requests,
+            final Set<String> writtenTopics) {
+        return proxy
+                .initiate(callGraph, proxyClient, model, callbackContext)
+                .translateToServiceRequest((resourceModel) -> requests)
+                .makeServiceCall((awsRequests, client) -> {
+                    final List<SetTopicAttributesRequest> remainingRequests = awsRequests.stream()
+                            .filter(awsRequest -> !writtenTopics.contains(awsRequest.topicArn()))
+                            .collect(Collectors.toList());
+                    final List<TopicPolicyApplier.Failure> failures = policyApplier.apply(client, remainingRequests);
+                    final Set<String> failedTopics = failures.stream()
+                            .map(failure -> failure.getRequest().topicArn())
+                            .collect(Collectors.toSet());
+                    remainingRequests.stream()
+                            .map(SetTopicAttributesRequest::topicArn)
+                            .filter(topicArn -> !failedTopics.contains(topicArn))
+                            .forEach(writtenTopics::add);
+                    if (!failures.isEmpty()) {
+                        throw new TopicPolicyApplier.PolicyApplyException(failures);
+                    }
+                    return remainingRequests.size();
+                })
+                .handleError((awsRequests, exception, client, rModel, context) -> handleApplyError(exception, client, rModel, context))
+                .success();
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handleApplyError(
+            final Exception e,
+            final ProxyClient<SnsClient> proxyClient,
+            final ResourceModel resourceModel,
+            final CallbackContext callbackContext) {
+        if (!(e instanceof TopicPolicyApplier.PolicyApplyException)) {
+            return handleError(null, e, proxyClient, resourceModel, callbackContext);
+        }
+        for (final TopicPolicyApplier.Failure failure : ((TopicPolicyApplier.PolicyApplyException) e).getFailures()) {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent =
+                    handleError(failure.getRequest(), failure.getException(), proxyClient, resourceModel, callbackContext);
+            if (!progressEvent.isSuccess()) {
+                return progressEvent;
+            }
+        }
+        return ProgressEvent.success(resourceModel, callbackContext);
+    }
 
     /**
      * Invocation of getPolicyDocument returns the policy document .
@@ -168,4 +240,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return sb.toString();
     }
 
+    /**
+     * @return whether the policy is the same document as the default policy of the topic, which is what a topic
+     * carries again once its TopicPolicy has been deleted
+     */
+    static boolean isDefaultPolicy(final ResourceHandlerRequest<ResourceModel> request, final String topicArn, final String policy) {
+        return PolicyCanonicalizer.isEquivalent(policy, getDefaultPolicy(request, topicArn));
+    }
+
 }
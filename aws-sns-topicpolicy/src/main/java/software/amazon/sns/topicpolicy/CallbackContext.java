@@ -2,6 +2,9 @@ package software.amazon.sns.topicpolicy;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -9,6 +12,9 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 public class CallbackContext extends StdCallbackContext {
     private boolean ignoreNotFound = false;
     private int principalRetryAttempts = 5;
+    // topic ARNs that already carry the desired policy, and those already reset to the default policy
+    private Set<String> policyWrittenTopics = new HashSet<>();
+    private Set<String> defaultPolicyWrittenTopics = new HashSet<>();
 
     protected void minusOneAttempts(){
         principalRetryAttempts--;
@@ -3,7 +3,7 @@ package software.amazon.sns.topicpolicy;
 
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -11,12 +11,23 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class CreateHandler extends BaseHandlerStd {
     private software.amazon.cloudformation.proxy.Logger logger;
 
+    // the topics of a new policy rarely carry it already, so unlike Update the policy is written without reading first
+    public CreateHandler() {
+        super();
+    }
+
+    CreateHandler(final TopicPolicyApplier policyApplier) {
+        super(policyApplier);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -53,23 +64,18 @@ public class CreateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         final CallbackContext callbackContext = progress.getCallbackContext();
         final String policy = getPolicyDocument(request);
-        final Set<String> topics = new HashSet<>(model.getTopics());
-        for (final String topicArn : topics) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
-                    .initiate("AWS-SNS-TopicPolicy::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.translateToRequest(topicArn, policy))
-                    .makeServiceCall((awsRequest, client) -> {
-                        SetTopicAttributesResponse response = proxyClient.injectCredentialsAndInvokeV2(awsRequest, client.client()::setTopicAttributes);
-                        logger.log(String.format("Resource Created in StackId: %s", request.getStackId()));
-                        model.setId(topicArn);
-                        return response;
-                    })
-                    .handleError((awsRequest, exception, client, rModel, context) -> handleError(awsRequest, exception, client, rModel, context))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final Set<String> topics = new LinkedHashSet<>(model.getTopics());
+        final List<SetTopicAttributesRequest> requests = topics.stream()
+                .map(topicArn -> Translator.translateToRequest(topicArn, policy))
+                .collect(Collectors.toList());
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent =
+                applyPolicies("AWS-SNS-TopicPolicy::Create", proxy, proxyClient, model, callbackContext, requests,
+                        callbackContext.getPolicyWrittenTopics());
+        if (!progressEvent.isSuccess()) {
+            return progressEvent;
         }
+        logger.log(String.format("Resource Created in StackId: %s", request.getStackId()));
+        model.setId(topics.iterator().next());
         return ProgressEvent.progress(model, callbackContext);
     }
 
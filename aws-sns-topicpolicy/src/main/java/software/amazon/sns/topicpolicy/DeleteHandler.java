@@ -1,7 +1,7 @@
 package software.amazon.sns.topicpolicy;
 
 import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -10,12 +10,21 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class DeleteHandler extends BaseHandlerStd {
     private software.amazon.cloudformation.proxy.Logger logger;
 
+    public DeleteHandler() {
+        super();
+    }
+
+    DeleteHandler(final TopicPolicyApplier policyApplier) {
+        super(policyApplier);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -49,23 +58,16 @@ public class DeleteHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         final CallbackContext callbackContext = progress.getCallbackContext();
         callbackContext.setIgnoreNotFound(true);
-        final Set<String> topics = new HashSet<>(model.getTopics());
-        for (final String topicArn : topics) {
-            String policy = getDefaultPolicy(request,topicArn);
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
-                    .initiate("AWS-SNS-TopicPolicy::Delete", proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.translateToRequest(topicArn, policy))
-                    .makeServiceCall((awsRequest, client) -> {
-                        SetTopicAttributesResponse response = proxyClient.injectCredentialsAndInvokeV2(awsRequest, client.client()::setTopicAttributes);
-                        logger.log(String.format("Resource Deleted in StackId: %s", request.getStackId()));
-                        return response;
-                    })
-                    .handleError((awsRequest, exception, client, rModel, context) -> handleError(awsRequest, exception, client, rModel, context))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final List<SetTopicAttributesRequest> requests = new LinkedHashSet<>(model.getTopics()).stream()
+                .map(topicArn -> Translator.translateToRequest(topicArn, getDefaultPolicy(request, topicArn)))
+                .collect(Collectors.toList());
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent =
+                applyPolicies("AWS-SNS-TopicPolicy::Delete", proxy, proxyClient, model, callbackContext, requests,
+                        callbackContext.getDefaultPolicyWrittenTopics());
+        if (!progressEvent.isSuccess()) {
+            return progressEvent;
         }
+        logger.log(String.format("Resource Deleted in StackId: %s", request.getStackId()));
         return ProgressEvent.progress(model, callbackContext);
     }
 }
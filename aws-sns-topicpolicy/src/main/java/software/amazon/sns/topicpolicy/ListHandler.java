@@ -2,23 +2,81 @@ package software.amazon.sns.topicpolicy;
 
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.ListTopicsResponse;
+import software.amazon.awssdk.services.sns.model.SnsException;
+import software.amazon.awssdk.services.sns.model.Topic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Lists one page of ListTopics per invocation and reads the policies of its topics at the same time through a
+     * {@link TopicPolicyReader}. Topics whose policies are the same canonical document are returned as one model, so
+     * only one page of topics is held at a time; the same policy on topics of different pages is returned once per
+     * page. Topics without a policy, with only their default policy, or deleted since they were listed, are left out, as
+     * ReadHandler reports them as not found.
+     */
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<SnsClient> proxyClient,
             final Logger logger) {
-        ResourceModel resourceModel = request.getDesiredResourceState();
-        return ProgressEvent.failed(resourceModel, callbackContext, HandlerErrorCode.InvalidRequest,
-                "List operation is not supported.");
+        final ResourceModel resourceModel = request.getDesiredResourceState();
+        final TopicPolicyReader policyReader = new TopicPolicyReader(TopicPolicyApplier.DEFAULT_MAX_CONCURRENCY, true);
+
+        final ListTopicsResponse listTopicsResponse;
+        final Map<String, String> policies;
+        try {
+            listTopicsResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListTopicsRequest(request.getNextToken()),
+                    proxyClient.client()::listTopics);
+            final List<String> topicArns = listTopicsResponse.topics().stream()
+                    .map(Topic::topicArn)
+                    .collect(Collectors.toList());
+            policies = policyReader.read(proxyClient, topicArns);
+        } catch (final SnsException e) {
+            return handleError(null, e, proxyClient, resourceModel, callbackContext);
+        }
+
+        final List<ResourceModel> models = translateFromPolicies(request, policies);
+        logger.log(String.format("Listed %d distinct policies of %d topic(s)", models.size(), policies.size()));
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(listTopicsResponse.nextToken())
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    private static List<ResourceModel> translateFromPolicies(final ResourceHandlerRequest<ResourceModel> request, final Map<String, String> policies) {
+        // keyed by canonical policy, in the order the first topic of each policy was listed
+        final Map<String, List<String>> topicsByPolicy = new LinkedHashMap<>();
+        final Map<String, String> policyByCanonicalPolicy = new LinkedHashMap<>();
+        policies.forEach((topicArn, policy) -> {
+            if (policy == null || isDefaultPolicy(request, topicArn, policy)) {
+                return;
+            }
+            final String canonicalPolicy = PolicyCanonicalizer.canonicalizeOrKeep(policy);
+            policyByCanonicalPolicy.putIfAbsent(canonicalPolicy, policy);
+            topicsByPolicy.computeIfAbsent(canonicalPolicy, key -> new ArrayList<>()).add(topicArn);
+        });
+
+        final List<ResourceModel> models = new ArrayList<>();
+        topicsByPolicy.forEach((canonicalPolicy, topics) -> models.add(ResourceModel.builder()
+                .id(topics.get(0))
+                .topics(topics)
+                .policyDocument(Translator.translateToPolicyDocument(policyByCanonicalPolicy.get(canonicalPolicy)))
+                .build()));
+        return models;
     }
 
 }
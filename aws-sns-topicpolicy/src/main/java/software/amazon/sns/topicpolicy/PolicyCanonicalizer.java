@@ -0,0 +1,84 @@
+package software.amazon.sns.topicpolicy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Brings a policy document into a canonical form so that two documents can be compared by value: object keys are
+ * sorted, whitespace is dropped and a single-element array is replaced by its element, as IAM treats
+ * {@code "Action": ["sns:Publish"]} and {@code "Action": "sns:Publish"} the same. Array order is kept.
+ */
+final class PolicyCanonicalizer {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private PolicyCanonicalizer() {
+    }
+
+    /**
+     * @return the canonical form of the policy
+     * @throws JsonProcessingException if the policy is not a JSON document
+     */
+    static String canonicalize(final String policy) throws JsonProcessingException {
+        return MAPPER.writeValueAsString(canonicalize(MAPPER.readTree(policy)));
+    }
+
+    /**
+     * @return the canonical form of the policy, or the policy itself if it is not JSON, so that it can still be compared
+     */
+    static String canonicalizeOrKeep(final String policy) {
+        try {
+            return canonicalize(policy);
+        } catch (final JsonProcessingException e) {
+            return policy;
+        }
+    }
+
+    /**
+     * @return whether both policies are the same document once canonicalized; false if either is missing or not JSON
+     */
+    static boolean isEquivalent(final String policy, final String otherPolicy) {
+        if (policy == null || otherPolicy == null) {
+            return false;
+        }
+        try {
+            return canonicalize(MAPPER.readTree(policy)).equals(canonicalize(MAPPER.readTree(otherPolicy)));
+        } catch (final JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private static JsonNode canonicalize(final JsonNode node) {
+        if (node.isObject()) {
+            final List<String> fieldNames = new ArrayList<>();
+            final Iterator<String> fieldNameIterator = node.fieldNames();
+            while (fieldNameIterator.hasNext()) {
+                fieldNames.add(fieldNameIterator.next());
+            }
+            Collections.sort(fieldNames);
+            final ObjectNode canonical = MAPPER.createObjectNode();
+            for (final String fieldName : fieldNames) {
+                canonical.set(fieldName, canonicalize(node.get(fieldName)));
+            }
+            return canonical;
+        }
+        if (node.isArray()) {
+            if (node.size() == 1) {
+                return canonicalize(node.get(0));
+            }
+            final ArrayNode canonical = MAPPER.createArrayNode();
+            for (final JsonNode element : node) {
+                canonical.add(canonicalize(element));
+            }
+            return canonical;
+        }
+        return node;
+    }
+}
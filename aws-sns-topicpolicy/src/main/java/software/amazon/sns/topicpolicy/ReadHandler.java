@@ -1,6 +1,8 @@
 package software.amazon.sns.topicpolicy;
 
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -8,10 +10,18 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
-public class ReadHandler extends BaseHandlerStd {
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
+public class ReadHandler extends BaseHandlerStd {
     /**
-     * Dummy implementation returning default success.
+     * Reads the policy of every topic of the resource through one {@link TopicPolicyReader}, so the GetTopicAttributes
+     * calls are sent at the same time. The policy of the first topic is the one reported; topics whose policy is not
+     * the same document, or that no longer exist, are left out of Topics, which surfaces them as drift. The resource is
+     * not found when the first topic is gone or carries only its default policy, as it does after a Delete.
      *
      * @param proxy
      *            {@link AmazonWebServicesClientProxy} to initiate proxy chain
@@ -33,9 +43,54 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<SnsClient> proxyClient,
             final Logger logger) {
 
-        ResourceModel resourceModel = request.getDesiredResourceState();
-        return ProgressEvent.failed(resourceModel, callbackContext, HandlerErrorCode.InvalidRequest,
-                "Read operation is not supported.");
+        final ResourceModel resourceModel = request.getDesiredResourceState();
+        final List<String> topics = new ArrayList<>();
+        if (resourceModel != null && !CollectionUtils.isNullOrEmpty(resourceModel.getTopics())) {
+            topics.addAll(new LinkedHashSet<>(resourceModel.getTopics()));
+        } else if (resourceModel != null && resourceModel.getId() != null) {
+            topics.add(resourceModel.getId());
+        } else {
+            return ProgressEvent.failed(resourceModel, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "Value of property Topics must be of type List of String");
+        }
+
+        final TopicPolicyReader policyReader = new TopicPolicyReader(TopicPolicyApplier.DEFAULT_MAX_CONCURRENCY, true);
+        return proxy.initiate("AWS-SNS-TopicPolicy::Read", proxyClient, resourceModel, callbackContext)
+                .translateToServiceRequest(model -> topics)
+                .makeServiceCall((topicArns, client) -> policyReader.read(client, topicArns))
+                .handleError((topicArns, exception, client, model, context) -> handleError(null, exception, client, model, context))
+                .done(policies -> {
+                    final String firstTopic = topics.get(0);
+                    final String firstPolicy = policies.get(firstTopic);
+                    if (firstPolicy == null || isDefaultPolicy(request, firstTopic, firstPolicy)) {
+                        final CfnNotFoundException ex = new CfnNotFoundException(ResourceModel.TYPE_NAME, firstTopic);
+                        return ProgressEvent.failed(resourceModel, callbackContext, ex.getErrorCode(), ex.getMessage());
+                    }
+                    return ProgressEvent.defaultSuccessHandler(translateFromPolicies(resourceModel, firstTopic, policies, logger));
+                });
+    }
+
+    private static ResourceModel translateFromPolicies(final ResourceModel resourceModel, final String firstTopic,
+                                                       final Map<String, String> policies, final Logger logger) {
+        final String policy = policies.get(firstTopic);
+
+        // identical strings are canonicalized once, which is the common case of one policy written to every topic
+        final Map<String, String> canonicalPolicies = new HashMap<>();
+        final String canonicalPolicy = canonicalPolicies.computeIfAbsent(policy, PolicyCanonicalizer::canonicalizeOrKeep);
+        final List<String> matchingTopics = new ArrayList<>();
+        policies.forEach((topicArn, topicPolicy) -> {
+            if (topicPolicy != null && canonicalPolicy.equals(canonicalPolicies.computeIfAbsent(topicPolicy, PolicyCanonicalizer::canonicalizeOrKeep))) {
+                matchingTopics.add(topicArn);
+            } else {
+                logger.log(String.format("Policy of topic %s differs from the policy of topic %s", topicArn, firstTopic));
+            }
+        });
+
+        return ResourceModel.builder()
+                .id(resourceModel.getId() != null ? resourceModel.getId() : firstTopic)
+                .topics(matchingTopics)
+                .policyDocument(Translator.translateToPolicyDocument(policy))
+                .build();
     }
 
 }
@@ -0,0 +1,142 @@
+package software.amazon.sns.topicpolicy;
+
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the SetTopicAttributes calls of a policy to many topics at the same time. At most {@code maxConcurrency}
+ * topics of one {@link #apply} are in flight; each call still goes through the {@link ClientBuilder} client, so
+ * throttled calls are retried with its backoff policy before they count as failed.
+ * <p>
+ * With {@code skipUnchangedPolicies} the current Policy attribute of each topic is read first and the write is left
+ * out when both documents are equal according to {@link PolicyCanonicalizer}. A read is cheaper and less throttled
+ * than a write, and on stack updates most topics already carry the policy, so UpdateHandler turns this on.
+ */
+final class TopicPolicyApplier {
+    static final int DEFAULT_MAX_CONCURRENCY = 10;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    // shared with the TopicPolicyReader, which bounds its calls the same way
+    static final ExecutorService EXECUTOR = newExecutor();
+
+    private final int maxConcurrency;
+    private final boolean skipUnchangedPolicies;
+
+    TopicPolicyApplier(final int maxConcurrency) {
+        this(maxConcurrency, false);
+    }
+
+    TopicPolicyApplier(final int maxConcurrency, final boolean skipUnchangedPolicies) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.skipUnchangedPolicies = skipUnchangedPolicies;
+    }
+
+    /**
+     * Sends every request and waits until all of them have finished, whether they succeeded or not.
+     *
+     * @return the failed requests in the order they were given; empty when every write succeeded
+     */
+    List<Failure> apply(final ProxyClient<SnsClient> proxyClient, final List<SetTopicAttributesRequest> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < requests.size(); i++) {
+            pending.add(i);
+        }
+        final Exception[] exceptions = new Exception[requests.size()];
+
+        final List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int worker = 0; worker < Math.min(maxConcurrency, requests.size()); worker++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                Integer next;
+                while ((next = pending.poll()) != null) {
+                    try {
+                        if (skipUnchangedPolicies && isPolicyUnchanged(proxyClient, requests.get(next))) {
+                            continue;
+                        }
+                        proxyClient.injectCredentialsAndInvokeV2(requests.get(next), proxyClient.client()::setTopicAttributes);
+                    } catch (final Exception e) {
+                        exceptions[next] = e;
+                    }
+                }
+            }, EXECUTOR));
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+
+        final List<Failure> failures = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (exceptions[i] != null) {
+                failures.add(new Failure(requests.get(i), exceptions[i]));
+            }
+        }
+        return failures;
+    }
+
+    private static boolean isPolicyUnchanged(final ProxyClient<SnsClient> proxyClient, final SetTopicAttributesRequest request) {
+        final Map<String, String> attributes;
+        try {
+            attributes = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToGetTopicAttributesRequest(request.topicArn()),
+                    proxyClient.client()::getTopicAttributes).attributes();
+        } catch (final Exception e) {
+            // whether the topic can be changed is decided by the write, a failed read only means it is not skipped
+            return false;
+        }
+        return PolicyCanonicalizer.isEquivalent(attributes.get(TopicAttribute.Policy.name()), request.attributeValue());
+    }
+
+    private static ExecutorService newExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "sns-topicpolicy-call-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // workers are bounded per apply, so the pool itself only has to hand out idle threads
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory);
+    }
+
+    @lombok.Value
+    static class Failure {
+        SetTopicAttributesRequest request;
+        Exception exception;
+    }
+
+    /**
+     * Thrown from the proxy service call when at least one topic could not be written, so that the handler can pass
+     * every failure to its error handling.
+     */
+    static class PolicyApplyException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Failure> failures;
+
+        PolicyApplyException(final List<Failure> failures) {
+            super(String.format("Policy could not be applied to %d topic(s)", failures.size()), failures.get(0).getException());
+            this.failures = failures;
+        }
+
+        List<Failure> getFailures() {
+            return failures;
+        }
+    }
+}
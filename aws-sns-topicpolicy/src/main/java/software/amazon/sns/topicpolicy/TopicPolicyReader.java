@@ -0,0 +1,98 @@
+package software.amazon.sns.topicpolicy;
+
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the Policy attribute of many topics at the same time, with at most {@code maxConcurrency} GetTopicAttributes
+ * calls in flight. A topic that is asked for more than once in the same read is only read once.
+ */
+final class TopicPolicyReader {
+    private final int maxConcurrency;
+    private final boolean skipMissingTopics;
+
+    TopicPolicyReader(final int maxConcurrency) {
+        this(maxConcurrency, false);
+    }
+
+    /**
+     * @param skipMissingTopics whether a topic that does not exist is returned as having no policy instead of failing
+     *                          the read, for listings where a topic may be deleted after it was listed
+     */
+    TopicPolicyReader(final int maxConcurrency, final boolean skipMissingTopics) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.skipMissingTopics = skipMissingTopics;
+    }
+
+    /**
+     * Reads the topics and waits until all of those calls have finished. If any call failed, the exception of the
+     * first failed topic in the given order is rethrown unchanged, so that the handler error translation works as it
+     * does for a single call.
+     *
+     * @return the policy of every topic in the given order; null for a topic that has no Policy attribute
+     */
+    Map<String, String> read(final ProxyClient<SnsClient> proxyClient, final Collection<String> topicArns) {
+        final List<String> distinctTopics = topicArns.stream()
+                .distinct()
+                .collect(Collectors.toList());
+        final String[] policies = fetch(proxyClient, distinctTopics);
+
+        final Map<String, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < distinctTopics.size(); i++) {
+            result.put(distinctTopics.get(i), policies[i]);
+        }
+        return result;
+    }
+
+    private String[] fetch(final ProxyClient<SnsClient> proxyClient, final List<String> topicArns) {
+        final Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < topicArns.size(); i++) {
+            pending.add(i);
+        }
+        final String[] policies = new String[topicArns.size()];
+        final RuntimeException[] exceptions = new RuntimeException[topicArns.size()];
+
+        final List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int worker = 0; worker < Math.min(maxConcurrency, topicArns.size()); worker++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                Integer next;
+                while ((next = pending.poll()) != null) {
+                    final String topicArn = topicArns.get(next);
+                    try {
+                        final Map<String, String> attributes = proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.translateToGetTopicAttributesRequest(topicArn), proxyClient.client()::getTopicAttributes).attributes();
+                        policies[next] = attributes.get(TopicAttribute.Policy.name());
+                    } catch (final NotFoundException e) {
+                        if (!skipMissingTopics) {
+                            exceptions[next] = e;
+                        }
+                    } catch (final RuntimeException e) {
+                        exceptions[next] = e;
+                    }
+                }
+            }, TopicPolicyApplier.EXECUTOR));
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+
+        for (final RuntimeException exception : exceptions) {
+            if (exception != null) {
+                throw exception;
+            }
+        }
+        return policies;
+    }
+}
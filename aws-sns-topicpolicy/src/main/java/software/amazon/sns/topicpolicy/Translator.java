@@ -1,6 +1,14 @@
 package software.amazon.sns.topicpolicy;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.ListTopicsRequest;
 import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+
+import java.io.IOException;
+import java.util.Map;
 
 /**
  * This class is a centralized placeholder for - api request construction - object translation to/from aws sdk -
@@ -8,6 +16,7 @@ import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
  */
 
 public class Translator {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     static SetTopicAttributesRequest translateToRequest(final String topicArn, String topicPolicy) {
         return SetTopicAttributesRequest.builder()
@@ -17,4 +26,24 @@ public class Translator {
                 .build();
     }
 
+    static GetTopicAttributesRequest translateToGetTopicAttributesRequest(final String topicArn) {
+        return GetTopicAttributesRequest.builder()
+                .topicArn(topicArn)
+                .build();
+    }
+
+    static ListTopicsRequest translateToListTopicsRequest(final String nextToken) {
+        return ListTopicsRequest.builder()
+                .nextToken(nextToken)
+                .build();
+    }
+
+    static Map<String, Object> translateToPolicyDocument(final String policy) {
+        try {
+            return MAPPER.readValue(policy, new TypeReference<Map<String, Object>>() {});
+        } catch (final IOException e) {
+            throw new CfnGeneralServiceException(e);
+        }
+    }
+
 }
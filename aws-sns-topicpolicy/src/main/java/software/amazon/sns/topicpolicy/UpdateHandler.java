@@ -2,7 +2,7 @@ package software.amazon.sns.topicpolicy;
 
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.utils.CollectionUtils;
-import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -10,12 +10,22 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
     private software.amazon.cloudformation.proxy.Logger logger;
 
+    public UpdateHandler() {
+        super(new TopicPolicyApplier(TopicPolicyApplier.DEFAULT_MAX_CONCURRENCY, true));
+    }
+
+    UpdateHandler(final TopicPolicyApplier policyApplier) {
+        super(policyApplier);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -53,44 +63,31 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel previousState = request.getPreviousResourceState();
         final String policy = getPolicyDocument(request);
         // new topics
-        final Set<String> newTopics = new HashSet<>(model.getTopics());
+        final Set<String> newTopics = new LinkedHashSet<>(model.getTopics());
         // previous topics
-        final Set<String> previousTopics = new HashSet<>(previousState.getTopics());
+        final Set<String> previousTopics = new LinkedHashSet<>(previousState.getTopics());
         // extract the topics that needs to be deleted.
         previousTopics.removeAll(newTopics);
         final CallbackContext callbackContext = progress.getCallbackContext();
-        for (final String topicArn : newTopics) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
-                    .initiate("AWS-SNS-TopicPolicy::Update", proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.translateToRequest(topicArn, policy))
-                    .makeServiceCall((awsRequest, client) -> {
-                        SetTopicAttributesResponse response = proxyClient.injectCredentialsAndInvokeV2(awsRequest, client.client()::setTopicAttributes);
-                        logger.log(String.format("Resource Updated in StackId: %s", request.getStackId()));
-                        return response;
-                    })
-                    .handleError((awsRequest, exception, client, rModel, context) -> handleError(awsRequest, exception, client, rModel, context))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final List<SetTopicAttributesRequest> requests = newTopics.stream()
+                .map(topicArn -> Translator.translateToRequest(topicArn, policy))
+                .collect(Collectors.toList());
+        ProgressEvent<ResourceModel, CallbackContext> progressEvent =
+                applyPolicies("AWS-SNS-TopicPolicy::Update", proxy, proxyClient, model, callbackContext, requests,
+                        callbackContext.getPolicyWrittenTopics());
+        if (!progressEvent.isSuccess()) {
+            return progressEvent;
         }
         callbackContext.setIgnoreNotFound(true);
-        for (final String topicArn : previousTopics) {
-            String defaultPolicy = getDefaultPolicy(request,topicArn);
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy
-                    .initiate("AWS-SNS-TopicPolicy::Update", proxyClient, model, callbackContext)
-                    .translateToServiceRequest((resourceModel) -> Translator.translateToRequest(topicArn, defaultPolicy))
-                    .makeServiceCall((awsRequest, client) -> {
-                        SetTopicAttributesResponse response = proxyClient.injectCredentialsAndInvokeV2(awsRequest, client.client()::setTopicAttributes);
-                        logger.log(String.format("Resource Updated in StackId: %s", request.getStackId()));
-                        return response;
-                    })
-                    .handleError((awsRequest, exception, client, rModel, context) -> handleError(awsRequest, exception, client, rModel, context))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final List<SetTopicAttributesRequest> resetRequests = previousTopics.stream()
+                .map(topicArn -> Translator.translateToRequest(topicArn, getDefaultPolicy(request, topicArn)))
+                .collect(Collectors.toList());
+        progressEvent = applyPolicies("AWS-SNS-TopicPolicy::Update::ResetPolicy", proxy, proxyClient, model, callbackContext, resetRequests,
+                callbackContext.getDefaultPolicyWrittenTopics());
+        if (!progressEvent.isSuccess()) {
+            return progressEvent;
         }
+        logger.log(String.format("Resource Updated in StackId: %s", request.getStackId()));
         return ProgressEvent.progress(model, callbackContext);
     }
 
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesRequest;
 import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
 import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -26,14 +27,19 @@ import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
@@ -93,6 +99,78 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(snsClient, times(2)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+        verify(snsClient, never()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AppliesPolicyToEveryTopic() {
+
+        final List<String> topics = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            topics.add("arn:aws:sns:us-east-1:123456789:my-topic" + i);
+        }
+
+        final ResourceModel model = ResourceModel.builder()
+                .topics(topics)
+                .policyDocument(getSNSPolicy())
+                .build();
+
+        final Set<String> writtenTopics = ConcurrentHashMap.newKeySet();
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    writtenTopics.add(invocation.<SetTopicAttributesRequest>getArgument(0).topicArn());
+                    return SetTopicAttributesResponse.builder().build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler(new TopicPolicyApplier(4)).handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo("arn:aws:sns:us-east-1:123456789:my-topic0");
+        assertThat(writtenTopics).containsExactlyInAnyOrderElementsOf(topics);
+        verify(proxyClient.client(), times(25)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Failure_FirstFailedTopicDecides() {
+
+        final List<String> topics = new ArrayList<>();
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic1");
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic2");
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic3");
+
+        final ResourceModel model = ResourceModel.builder()
+                .topics(topics)
+                .policyDocument(getSNSPolicy())
+                .build();
+
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final String topicArn = invocation.<SetTopicAttributesRequest>getArgument(0).topicArn();
+                    if (topicArn.endsWith("my-topic2")) {
+                        throw AuthorizationErrorException.builder().build();
+                    }
+                    if (topicArn.endsWith("my-topic3")) {
+                        throw ThrottledException.builder().build();
+                    }
+                    return SetTopicAttributesResponse.builder().build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+        verify(proxyClient.client(), times(3)).setTopicAttributes(any(SetTopicAttributesRequest.class));
     }
 
     @Test
@@ -262,7 +340,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
 
-        verify(proxyClient.client(), times(1)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+        verify(proxyClient.client(), times(2)).setTopicAttributes(any(SetTopicAttributesRequest.class));
     }
 
     @Test
@@ -298,6 +376,56 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_RetryWritesOnlyRemainingTopics() {
+
+        final List<String> topics = new ArrayList<>();
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic1");
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic2");
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic3");
+
+        final ResourceModel model = ResourceModel.builder()
+                .topics(topics)
+                .policyDocument(getSNSPolicy())
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(model)
+                .build();
+
+        final InvalidParameterException exception = InvalidParameterException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("InvalidParameter")
+                        .errorMessage("Invalid parameter: Policy Error: PrincipalNotFound").build())
+                .build();
+        final List<String> writtenTopics = Collections.synchronizedList(new ArrayList<>());
+        final AtomicBoolean principalFound = new AtomicBoolean();
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final String topicArn = invocation.<SetTopicAttributesRequest>getArgument(0).topicArn();
+                    if (topicArn.endsWith("my-topic2") && !principalFound.getAndSet(true)) {
+                        throw exception;
+                    }
+                    writtenTopics.add(topicArn);
+                    return SetTopicAttributesResponse.builder().build();
+                });
+
+        final CallbackContext callbackContext = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.getPolicyWrittenTopics()).containsExactlyInAnyOrder(
+                "arn:aws:sns:us-east-1:123456789:my-topic1", "arn:aws:sns:us-east-1:123456789:my-topic3");
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getPolicyWrittenTopics()).containsExactlyInAnyOrderElementsOf(topics);
+        assertThat(writtenTopics).containsExactlyInAnyOrderElementsOf(topics);
+        verify(proxyClient.client(), times(4)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
     @Test
     public void handleRequest_Failure_FinalAttempt_InvalidParameterExceptionWithWrongPrincipal() {
 
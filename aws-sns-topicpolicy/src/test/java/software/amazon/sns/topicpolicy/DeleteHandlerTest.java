@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -31,6 +32,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 public class DeleteHandlerTest extends AbstractTestBase {
@@ -81,6 +84,39 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_IgnoresDeletedTopics() {
+
+        final List<String> topics = new ArrayList<>();
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic1");
+        topics.add("arn:aws:sns:us-east-1:123456789:deleted-topic");
+        topics.add("arn:aws:sns:us-east-1:123456789:my-topic2");
+
+        final ResourceModel model = ResourceModel.builder()
+                .id("TempPrimaryIdentifier")
+                .policyDocument(new HashMap<>())
+                .topics(topics)
+                .build();
+
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    if (invocation.<SetTopicAttributesRequest>getArgument(0).topicArn().endsWith("deleted-topic")) {
+                        throw NotFoundException.builder().build();
+                    }
+                    return SetTopicAttributesResponse.builder().build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler(new TopicPolicyApplier(2)).handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(3)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
     @Test
     public void handleRequest_Failure_NotFoundException() {
 
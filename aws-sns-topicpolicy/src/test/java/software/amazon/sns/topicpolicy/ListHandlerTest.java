@@ -1,7 +1,11 @@
 package software.amazon.sns.topicpolicy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,18 +15,35 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
-import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.AuthorizationErrorException;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.ListTopicsRequest;
+import software.amazon.awssdk.services.sns.model.ListTopicsResponse;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
+import software.amazon.awssdk.services.sns.model.ThrottledException;
+import software.amazon.awssdk.services.sns.model.Topic;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
-public class ListHandlerTest {
+public class ListHandlerTest extends AbstractTestBase {
+
+    private static final String POLICY = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Action\":\"sns:Publish\",\"Resource\":\"*\"}]}";
+    private static final String OTHER_POLICY = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Deny\",\"Action\":\"sns:Publish\",\"Resource\":\"*\"}]}";
+    private static final String TOPIC1 = "arn:aws:sns:us-east-1:123456789:my-topic1";
+    private static final String TOPIC2 = "arn:aws:sns:us-east-1:123456789:my-topic2";
+    private static final String TOPIC3 = "arn:aws:sns:us-east-1:123456789:my-topic3";
+    private static final String TOPIC4 = "arn:aws:sns:us-east-1:123456789:my-topic4";
+    private static final String TOPIC5 = "arn:aws:sns:us-east-1:123456789:my-topic5";
 
     @Mock
     private AmazonWebServicesClientProxy proxy;
@@ -30,9 +51,6 @@ public class ListHandlerTest {
     @Mock
     private ProxyClient<SnsClient> proxyClient;
 
-    @Mock
-    private Logger logger;
-
     @Mock
     SnsClient snsClient;
 
@@ -41,26 +59,104 @@ public class ListHandlerTest {
     @BeforeEach
     public void setup() {
         handler = new ListHandler();
-        proxy = mock(AmazonWebServicesClientProxy.class);
-        logger = mock(Logger.class);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        snsClient = mock(SnsClient.class);
+        proxyClient = MOCK_PROXY(proxy, snsClient);
     }
 
     @Test
-    public void handleRequest_SimpleFailure() {
-        final ResourceModel model = ResourceModel.builder()
-                .id("aws-sns-topic-policy")
-                .topics(new ArrayList<>())
-                .policyDocument(new HashMap<>())
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
-                .desiredResourceState(model)
-                .build();
+    public void handleRequest_GroupsTopicsByPolicy() {
+        when(snsClient.listTopics(any(ListTopicsRequest.class))).thenReturn(ListTopicsResponse.builder()
+                .topics(topic(TOPIC1), topic(TOPIC2), topic(TOPIC3), topic(TOPIC4), topic(TOPIC5))
+                .nextToken("page3")
+                .build());
+        final Map<String, String> policies = new HashMap<>();
+        policies.put(TOPIC1, POLICY);
+        policies.put(TOPIC2, OTHER_POLICY);
+        policies.put(TOPIC3, "{ \"Statement\" : { \"Resource\" : \"*\", \"Action\" : [\"sns:Publish\"], \"Effect\" : \"Allow\" }, \"Version\" : \"2012-10-17\" }");
+        policies.put(TOPIC4, null);
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            final String topicArn = invocation.<GetTopicAttributesRequest>getArgument(0).topicArn();
+            if (topicArn.equals(TOPIC5)) {
+                throw NotFoundException.builder().message("Topic does not exist").build();
+            }
+            final String policy = policies.get(topicArn);
+            return GetTopicAttributesResponse.builder()
+                    .attributes(policy == null ? Collections.emptyMap() : Collections.singletonMap(TopicAttribute.Policy.name(), policy))
+                    .build();
+        });
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request("page2"), new CallbackContext(), proxyClient, logger);
         assertThat(response).isNotNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
-        assertThat(response.getMessage()).isEqualTo("List operation is not supported.");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("page3");
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(TOPIC1);
+        assertThat(response.getResourceModels().get(0).getTopics()).containsExactly(TOPIC1, TOPIC3);
+        assertThat(((Map<?, ?>) response.getResourceModels().get(0).getPolicyDocument()).get("Version")).isEqualTo("2012-10-17");
+        assertThat(response.getResourceModels().get(1).getId()).isEqualTo(TOPIC2);
+        assertThat(response.getResourceModels().get(1).getTopics()).containsExactly(TOPIC2);
+        verify(snsClient).listTopics(argThat((ListTopicsRequest listTopicsRequest) -> "page2".equals(listTopicsRequest.nextToken())));
+    }
+
+    @Test
+    public void handleRequest_LeavesOutDefaultPolicies() {
+        when(snsClient.listTopics(any(ListTopicsRequest.class))).thenReturn(ListTopicsResponse.builder()
+                .topics(topic(TOPIC1), topic(TOPIC2), topic(TOPIC3))
+                .build());
+        final Map<String, String> policies = new HashMap<>();
+        policies.put(TOPIC1, BaseHandlerStd.getDefaultPolicy(request(null), TOPIC1));
+        policies.put(TOPIC2, POLICY);
+        policies.put(TOPIC3, BaseHandlerStd.getDefaultPolicy(request(null), TOPIC3));
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> GetTopicAttributesResponse.builder()
+                .attributes(Collections.singletonMap(TopicAttribute.Policy.name(), policies.get(invocation.<GetTopicAttributesRequest>getArgument(0).topicArn())))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getTopics()).containsExactly(TOPIC2);
+    }
+
+    @Test
+    public void handleRequest_EmptyPage() {
+        when(snsClient.listTopics(any(ListTopicsRequest.class))).thenReturn(ListTopicsResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ListTopicsFailure() {
+        when(snsClient.listTopics(any(ListTopicsRequest.class))).thenThrow(AuthorizationErrorException.builder().message("not authorized").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(null), new CallbackContext(), proxyClient, logger);
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+    }
+
+    @Test
+    public void handleRequest_GetTopicAttributesFailure() {
+        when(snsClient.listTopics(any(ListTopicsRequest.class))).thenReturn(ListTopicsResponse.builder().topics(topic(TOPIC1)).build());
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenThrow(ThrottledException.builder().message("Rate exceeded").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    private static Topic topic(final String topicArn) {
+        return Topic.builder().topicArn(topicArn).build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String nextToken) {
+        return ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .awsAccountId("123456789")
+                .nextToken(nextToken)
+                .build();
     }
 
 }
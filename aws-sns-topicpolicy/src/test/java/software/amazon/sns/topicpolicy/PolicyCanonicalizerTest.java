@@ -0,0 +1,75 @@
+package software.amazon.sns.topicpolicy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PolicyCanonicalizerTest {
+
+    private static final String POLICY = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Sid\":\"1\",\"Effect\":\"Allow\","
+            + "\"Principal\":{\"AWS\":\"arn:aws:iam::123456789:root\"},\"Action\":[\"sns:Publish\",\"sns:Subscribe\"],\"Resource\":\"*\"}]}";
+
+    @Test
+    public void testCanonicalize() throws JsonProcessingException {
+        assertThat(PolicyCanonicalizer.canonicalize("{ \"b\" : [ 1 ], \"a\" : { \"d\" : [1, 2], \"c\" : null } }"))
+                .isEqualTo("{\"a\":{\"c\":null,\"d\":[1,2]},\"b\":1}");
+    }
+
+    @Test
+    public void testCanonicalizeInvalidPolicy() {
+        assertThrows(JsonProcessingException.class, () -> PolicyCanonicalizer.canonicalize("{\"Version\""));
+    }
+
+    @Test
+    public void testCanonicalizeOrKeep() {
+        assertThat(PolicyCanonicalizer.canonicalizeOrKeep("{ \"Version\" : [\"2012-10-17\"] }")).isEqualTo("{\"Version\":\"2012-10-17\"}");
+        assertThat(PolicyCanonicalizer.canonicalizeOrKeep("{\"Version\"")).isEqualTo("{\"Version\"");
+    }
+
+    @Test
+    public void testEquivalentIgnoresKeyOrderWhitespaceAndSingleElementArrays() {
+        final String reordered = "{\n  \"Statement\" : {\n    \"Resource\" : [\"*\"],\n    \"Action\" : [\"sns:Publish\", \"sns:Subscribe\"],\n"
+                + "    \"Principal\" : {\"AWS\" : [\"arn:aws:iam::123456789:root\"]},\n    \"Effect\" : \"Allow\",\n    \"Sid\" : \"1\"\n  },\n"
+                + "  \"Version\" : \"2012-10-17\"\n}";
+
+        assertThat(PolicyCanonicalizer.isEquivalent(POLICY, reordered)).isTrue();
+    }
+
+    @Test
+    public void testNotEquivalent() {
+        // the order of the elements of an array is kept
+        assertThat(PolicyCanonicalizer.isEquivalent(POLICY, POLICY.replace("[\"sns:Publish\",\"sns:Subscribe\"]", "[\"sns:Subscribe\",\"sns:Publish\"]"))).isFalse();
+        assertThat(PolicyCanonicalizer.isEquivalent(POLICY, POLICY.replace("Allow", "Deny"))).isFalse();
+        assertThat(PolicyCanonicalizer.isEquivalent(POLICY, POLICY.replace("\"Resource\":\"*\"", "\"Resource\":\"*\",\"Condition\":{}"))).isFalse();
+    }
+
+    @Test
+    public void testNotEquivalentWhenMissingOrInvalid() {
+        assertThat(PolicyCanonicalizer.isEquivalent(null, POLICY)).isFalse();
+        assertThat(PolicyCanonicalizer.isEquivalent(POLICY, null)).isFalse();
+        assertThat(PolicyCanonicalizer.isEquivalent(POLICY, "{\"Version\"")).isFalse();
+    }
+
+    @Test
+    public void testEquivalentLargePolicy() {
+        final StringBuilder policy = new StringBuilder("{\"Version\":\"2012-10-17\",\"Statement\":[");
+        final StringBuilder reordered = new StringBuilder("{\"Statement\":[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                policy.append(',');
+                reordered.append(',');
+            }
+            policy.append(String.format("{\"Sid\":\"%d\",\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"arn:aws:iam::%012d:root\"},"
+                    + "\"Action\":\"sns:Publish\",\"Resource\":\"*\"}", i, i));
+            reordered.append(String.format("{\"Resource\":[\"*\"],\"Action\":[\"sns:Publish\"],\"Principal\":{\"AWS\":[\"arn:aws:iam::%012d:root\"]},"
+                    + "\"Effect\":\"Allow\",\"Sid\":\"%d\"}", i, i));
+        }
+        policy.append("]}");
+        reordered.append("],\"Version\":\"2012-10-17\"}");
+
+        assertThat(PolicyCanonicalizer.isEquivalent(policy.toString(), reordered.toString())).isTrue();
+        assertThat(PolicyCanonicalizer.isEquivalent(policy.toString(), reordered.toString().replace("\"999\"", "\"1000\""))).isFalse();
+    }
+}
@@ -6,6 +6,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -15,15 +18,28 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest extends AbstractTestBase {
 
+    private static final String POLICY = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Action\":\"sns:Publish\",\"Resource\":\"*\"}]}";
+    private static final String TOPIC1 = "arn:aws:sns:us-east-1:123456789:my-topic1";
+    private static final String TOPIC2 = "arn:aws:sns:us-east-1:123456789:my-topic2";
+    private static final String TOPIC3 = "arn:aws:sns:us-east-1:123456789:my-topic3";
+
     @Mock
     private AmazonWebServicesClientProxy proxy;
 
@@ -43,22 +59,152 @@ public class ReadHandlerTest extends AbstractTestBase {
         proxyClient = MOCK_PROXY(proxy, snsClient);
     }
 
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        final Map<String, String> policies = new HashMap<>();
+        policies.put(TOPIC1, POLICY);
+        policies.put(TOPIC2, "{ \"Statement\" : { \"Resource\" : \"*\", \"Action\" : [\"sns:Publish\"], \"Effect\" : \"Allow\" }, \"Version\" : \"2012-10-17\" }");
+        policies.put(TOPIC3, POLICY);
+        stubPolicies(policies);
+
+        final ResourceModel model = ResourceModel.builder()
+                .id(TOPIC1)
+                .topics(Arrays.asList(TOPIC1, TOPIC2, TOPIC3, TOPIC1))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TOPIC1);
+        assertThat(response.getResourceModel().getTopics()).containsExactly(TOPIC1, TOPIC2, TOPIC3);
+        assertThat(response.getResourceModel().getPolicyDocument()).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) response.getResourceModel().getPolicyDocument()).get("Version")).isEqualTo("2012-10-17");
+        // a topic listed twice is read once
+        verify(snsClient, times(3)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TopicWithOtherPolicyIsLeftOut() {
+        final Map<String, String> policies = new HashMap<>();
+        policies.put(TOPIC1, POLICY);
+        policies.put(TOPIC2, POLICY.replace("Allow", "Deny"));
+        policies.put(TOPIC3, null);
+        stubPolicies(policies);
+
+        final ResourceModel model = ResourceModel.builder()
+                .id(TOPIC1)
+                .topics(Arrays.asList(TOPIC1, TOPIC2, TOPIC3))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTopics()).containsExactly(TOPIC1);
+    }
+
+    @Test
+    public void handleRequest_ReadsIdWhenTopicsAreMissing() {
+        stubPolicies(Collections.singletonMap(TOPIC1, POLICY));
+
+        final ResourceModel model = ResourceModel.builder()
+                .id(TOPIC1)
+                .topics(new ArrayList<>())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTopics()).containsExactly(TOPIC1);
+    }
+
+    @Test
+    public void handleRequest_TopicWithoutPolicy() {
+        stubPolicies(Collections.singletonMap(TOPIC1, null));
+
+        final ResourceModel model = ResourceModel.builder()
+                .topics(Collections.singletonList(TOPIC1))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_TopicNotFound() {
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenThrow(NotFoundException.builder().message("Topic does not exist").build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .id(TOPIC1)
+                .topics(Arrays.asList(TOPIC1, TOPIC2))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_MissingSecondaryTopicIsLeftOut() {
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            if (TOPIC2.equals(invocation.<GetTopicAttributesRequest>getArgument(0).topicArn())) {
+                throw NotFoundException.builder().message("Topic does not exist").build();
+            }
+            return GetTopicAttributesResponse.builder().attributes(Collections.singletonMap(TopicAttribute.Policy.name(), POLICY)).build();
+        });
+
+        final ResourceModel model = ResourceModel.builder()
+                .id(TOPIC1)
+                .topics(Arrays.asList(TOPIC1, TOPIC2, TOPIC3))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTopics()).containsExactly(TOPIC1, TOPIC3);
+    }
+
+    @Test
+    public void handleRequest_DefaultPolicyIsNotFound() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(TOPIC1)
+                .topics(Arrays.asList(TOPIC1, TOPIC2))
+                .build();
+        final Map<String, String> policies = new HashMap<>();
+        policies.put(TOPIC1, BaseHandlerStd.getDefaultPolicy(request(model), TOPIC1));
+        policies.put(TOPIC2, BaseHandlerStd.getDefaultPolicy(request(model), TOPIC2));
+        stubPolicies(policies);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
     @Test
     public void handleRequest_SimpleFailure() {
         final ResourceModel model = ResourceModel.builder()
-                .id("aws-sns-topic-policy")
                 .topics(new ArrayList<>())
                 .policyDocument(new HashMap<>())
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
-                .desiredResourceState(model)
-                .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request(model), new CallbackContext(), proxyClient, logger);
         assertThat(response).isNotNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
-        assertThat(response.getMessage()).isEqualTo("Read operation is not supported.");
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        verify(snsClient, never()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    private void stubPolicies(final Map<String, String> policies) {
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            final String policy = policies.get(invocation.<GetTopicAttributesRequest>getArgument(0).topicArn());
+            return GetTopicAttributesResponse.builder()
+                    .attributes(policy == null ? Collections.emptyMap() : Collections.singletonMap(TopicAttribute.Policy.name(), policy))
+                    .build();
+        });
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(model)
+                .awsAccountId("123456789")
+                .build();
     }
 
 }
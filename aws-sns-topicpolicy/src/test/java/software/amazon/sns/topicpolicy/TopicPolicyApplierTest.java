@@ -0,0 +1,148 @@
+package software.amazon.sns.topicpolicy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.AuthorizationErrorException;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.ThrottledException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TopicPolicyApplierTest extends AbstractTestBase {
+
+    private static final long CAP_WAIT_SECONDS = 5L;
+
+    private ProxyClient<SnsClient> proxyClient;
+    private SnsClient snsClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        snsClient = mock(SnsClient.class);
+        proxyClient = MOCK_PROXY(proxy, snsClient);
+    }
+
+    @Test
+    public void testApplyStaysUnderConcurrencyCap() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        // the first calls are held until the cap is reached, which a serial applier would never do
+        final CountDownLatch capReached = new CountDownLatch(8);
+        when(snsClient.setTopicAttributes(any(SetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            capReached.countDown();
+            capReached.await(CAP_WAIT_SECONDS, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            return SetTopicAttributesResponse.builder().build();
+        });
+
+        final List<TopicPolicyApplier.Failure> failures = new TopicPolicyApplier(8).apply(proxyClient, requests(40));
+
+        assertThat(failures).isEmpty();
+        assertThat(maxInFlight.get()).isEqualTo(8);
+        verify(snsClient, times(40)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void testApplyReturnsFailuresInRequestOrder() {
+        when(snsClient.setTopicAttributes(any(SetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            final String topicArn = invocation.<SetTopicAttributesRequest>getArgument(0).topicArn();
+            if (topicArn.endsWith(":topic3")) {
+                throw NotFoundException.builder().build();
+            }
+            if (topicArn.endsWith(":topic1")) {
+                throw ThrottledException.builder().build();
+            }
+            return SetTopicAttributesResponse.builder().build();
+        });
+
+        final List<TopicPolicyApplier.Failure> failures = new TopicPolicyApplier(3).apply(proxyClient, requests(5));
+
+        assertThat(failures).hasSize(2);
+        assertThat(failures.get(0).getRequest().topicArn()).endsWith(":topic1");
+        assertThat(failures.get(0).getException()).isInstanceOf(ThrottledException.class);
+        assertThat(failures.get(1).getRequest().topicArn()).endsWith(":topic3");
+        assertThat(failures.get(1).getException()).isInstanceOf(NotFoundException.class);
+
+        final TopicPolicyApplier.PolicyApplyException exception = new TopicPolicyApplier.PolicyApplyException(failures);
+        assertThat(exception.getFailures()).isSameAs(failures);
+        assertThat(exception.getCause()).isInstanceOf(ThrottledException.class);
+    }
+
+    @Test
+    public void testApplySkipsTopicsThatAlreadyHaveThePolicy() {
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            final String topicArn = invocation.<GetTopicAttributesRequest>getArgument(0).topicArn();
+            if (topicArn.endsWith(":topic2")) {
+                throw AuthorizationErrorException.builder().build();
+            }
+            final String policy = topicArn.endsWith(":topic0") ? "{ \"Version\" : [\"2012-10-17\"] }" : "{\"Version\":\"2008-10-17\"}";
+            return GetTopicAttributesResponse.builder()
+                    .attributes(Collections.singletonMap(TopicAttribute.Policy.name(), policy))
+                    .build();
+        });
+        when(snsClient.setTopicAttributes(any(SetTopicAttributesRequest.class))).thenReturn(SetTopicAttributesResponse.builder().build());
+
+        final List<SetTopicAttributesRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.add(Translator.translateToRequest("arn:aws:sns:us-east-1:123456789:topic" + i, "{\"Version\":\"2012-10-17\"}"));
+        }
+        final List<TopicPolicyApplier.Failure> failures = new TopicPolicyApplier(2, true).apply(proxyClient, requests);
+
+        assertThat(failures).isEmpty();
+        verify(snsClient, times(3)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(snsClient, never()).setTopicAttributes(argThat((SetTopicAttributesRequest request) -> request.topicArn().endsWith(":topic0")));
+        verify(snsClient).setTopicAttributes(argThat((SetTopicAttributesRequest request) -> request.topicArn().endsWith(":topic1")));
+        verify(snsClient).setTopicAttributes(argThat((SetTopicAttributesRequest request) -> request.topicArn().endsWith(":topic2")));
+    }
+
+    @Test
+    public void testApplyDoesNotReadPoliciesByDefault() {
+        when(snsClient.setTopicAttributes(any(SetTopicAttributesRequest.class))).thenReturn(SetTopicAttributesResponse.builder().build());
+
+        assertThat(new TopicPolicyApplier(2).apply(proxyClient, requests(3))).isEmpty();
+        verify(snsClient, never()).getTopicAttributes(any(GetTopicAttributesRequest.class));
+        verify(snsClient, times(3)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void testApplyNothing() {
+        assertThat(new TopicPolicyApplier(1).apply(proxyClient, Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void testInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new TopicPolicyApplier(0));
+    }
+
+    private static List<SetTopicAttributesRequest> requests(final int count) {
+        final List<SetTopicAttributesRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(Translator.translateToRequest("arn:aws:sns:us-east-1:123456789:topic" + i, "{}"));
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,147 @@
+package software.amazon.sns.topicpolicy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.GetTopicAttributesResponse;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
+import software.amazon.awssdk.services.sns.model.ThrottledException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TopicPolicyReaderTest extends AbstractTestBase {
+
+    private static final long CAP_WAIT_SECONDS = 5L;
+
+    private ProxyClient<SnsClient> proxyClient;
+    private SnsClient snsClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        snsClient = mock(SnsClient.class);
+        proxyClient = MOCK_PROXY(proxy, snsClient);
+    }
+
+    @Test
+    public void testReadStaysUnderConcurrencyCap() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        // the first calls are held until the cap is reached, which a serial reader would never do
+        final CountDownLatch capReached = new CountDownLatch(8);
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            capReached.countDown();
+            capReached.await(CAP_WAIT_SECONDS, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            return policyResponse(invocation.<GetTopicAttributesRequest>getArgument(0).topicArn());
+        });
+
+        final Map<String, String> policies = new TopicPolicyReader(8).read(proxyClient, topics(40));
+
+        assertThat(policies.keySet()).containsExactlyElementsOf(topics(40));
+        assertThat(policies.get(topic(7))).isEqualTo(policy(topic(7)));
+        assertThat(maxInFlight.get()).isEqualTo(8);
+        verify(snsClient, times(40)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void testReadDeduplicatesTopics() {
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            final String topicArn = invocation.<GetTopicAttributesRequest>getArgument(0).topicArn();
+            if (topicArn.equals(topic(2))) {
+                return GetTopicAttributesResponse.builder().attributes(Collections.emptyMap()).build();
+            }
+            return policyResponse(topicArn);
+        });
+
+        final Map<String, String> policies = new TopicPolicyReader(4).read(proxyClient, Arrays.asList(topic(2), topic(0), topic(2), topic(1), topic(0)));
+
+        assertThat(policies.keySet()).containsExactly(topic(2), topic(0), topic(1));
+        assertThat(policies.get(topic(2))).isNull();
+        assertThat(policies.get(topic(0))).isEqualTo(policy(topic(0)));
+        verify(snsClient, times(3)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void testReadRethrowsFirstFailureInTopicOrder() {
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            final String topicArn = invocation.<GetTopicAttributesRequest>getArgument(0).topicArn();
+            if (topicArn.equals(topic(3))) {
+                throw NotFoundException.builder().build();
+            }
+            if (topicArn.equals(topic(1))) {
+                throw ThrottledException.builder().build();
+            }
+            return policyResponse(topicArn);
+        });
+
+        assertThrows(ThrottledException.class, () -> new TopicPolicyReader(3).read(proxyClient, topics(5)));
+
+        // a failed topic does not stop the reads of the others
+        verify(snsClient, times(5)).getTopicAttributes(any(GetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void testReadSkipsMissingTopics() {
+        when(snsClient.getTopicAttributes(any(GetTopicAttributesRequest.class))).thenAnswer(invocation -> {
+            final String topicArn = invocation.<GetTopicAttributesRequest>getArgument(0).topicArn();
+            if (topicArn.equals(topic(1))) {
+                throw NotFoundException.builder().build();
+            }
+            return policyResponse(topicArn);
+        });
+
+        final Map<String, String> policies = new TopicPolicyReader(2, true).read(proxyClient, topics(3));
+
+        assertThat(policies.keySet()).containsExactly(topic(0), topic(1), topic(2));
+        assertThat(policies.get(topic(1))).isNull();
+        assertThat(policies.get(topic(2))).isEqualTo(policy(topic(2)));
+    }
+
+    @Test
+    public void testInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new TopicPolicyReader(0));
+    }
+
+    private static GetTopicAttributesResponse policyResponse(final String topicArn) {
+        return GetTopicAttributesResponse.builder()
+                .attributes(Collections.singletonMap(TopicAttribute.Policy.name(), policy(topicArn)))
+                .build();
+    }
+
+    private static String policy(final String topicArn) {
+        return "{\"Statement\":[{\"Resource\":\"" + topicArn + "\"}]}";
+    }
+
+    private static String topic(final int index) {
+        return "arn:aws:sns:us-east-1:123456789:topic" + index;
+    }
+
+    private static List<String> topics(final int count) {
+        final List<String> topics = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            topics.add(topic(i));
+        }
+        return topics;
+    }
+}
@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sns.model.SetTopicAttributesRequest;
+import software.amazon.awssdk.services.sns.model.SetTopicAttributesResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -21,18 +22,22 @@ import software.amazon.awssdk.services.sns.model.AuthorizationErrorException;
 import software.amazon.awssdk.services.sns.model.InvalidSecurityException;
 import software.amazon.awssdk.services.sns.model.ThrottledException;
 import software.amazon.awssdk.services.sns.model.ConcurrentAccessException;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
@@ -170,6 +175,105 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_WritesNewTopicsAndResetsRemovedTopics() {
+
+        Map<String, Object> policyDocument = getSNSPolicy();
+        final List<String> new_topics = new ArrayList<>();
+        new_topics.add("arn:aws:sns:us-east-1:123456789:my-topic2");
+        new_topics.add("arn:aws:sns:us-east-1:123456789:my-topic3");
+        final ResourceModel desiredResourceState = ResourceModel.builder()
+                .id("aws-sns-topic-policy-id")
+                .topics(new_topics)
+                .policyDocument(policyDocument)
+                .build();
+
+        final List<String> old_topics = new ArrayList<>();
+        old_topics.add("arn:aws:sns:us-east-1:123456789:my-topic1");
+        old_topics.add("arn:aws:sns:us-east-1:123456789:my-topic2");
+        final ResourceModel previousResourceState = ResourceModel.builder()
+                .topics(old_topics)
+                .policyDocument(policyDocument)
+                .build();
+
+        final Map<String, String> writtenPolicies = new ConcurrentHashMap<>();
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final SetTopicAttributesRequest setTopicAttributesRequest = invocation.getArgument(0);
+                    writtenPolicies.put(setTopicAttributesRequest.topicArn(), setTopicAttributesRequest.attributeValue());
+                    return SetTopicAttributesResponse.builder().build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(desiredResourceState)
+                .previousResourceState(previousResourceState)
+                .awsAccountId("123456789")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler(new TopicPolicyApplier(2)).handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(writtenPolicies).hasSize(3);
+        assertThat(writtenPolicies.get("arn:aws:sns:us-east-1:123456789:my-topic2")).contains("SNSTopicSPolicy");
+        assertThat(writtenPolicies.get("arn:aws:sns:us-east-1:123456789:my-topic3")).contains("SNSTopicSPolicy");
+        assertThat(writtenPolicies.get("arn:aws:sns:us-east-1:123456789:my-topic1")).contains("__default_policy_ID");
+        verify(proxyClient.client(), times(3)).setTopicAttributes(any(SetTopicAttributesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RetryResetsOnlyRemainingTopics() {
+
+        Map<String, Object> policyDocument = getSNSPolicy();
+        final List<String> new_topics = new ArrayList<>();
+        new_topics.add("arn:aws:sns:us-east-1:123456789:my-topic3");
+        final ResourceModel desiredResourceState = ResourceModel.builder()
+                .topics(new_topics)
+                .policyDocument(policyDocument)
+                .build();
+
+        final List<String> old_topics = new ArrayList<>();
+        old_topics.add("arn:aws:sns:us-east-1:123456789:my-topic1");
+        old_topics.add("arn:aws:sns:us-east-1:123456789:my-topic2");
+        final ResourceModel previousResourceState = ResourceModel.builder()
+                .topics(old_topics)
+                .policyDocument(policyDocument)
+                .build();
+
+        final InvalidParameterException exception = InvalidParameterException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("InvalidParameter")
+                        .errorMessage("Invalid parameter: Policy Error: PrincipalNotFound").build())
+                .build();
+        final Map<String, Integer> writes = new ConcurrentHashMap<>();
+        when(proxyClient.client().setTopicAttributes(any(SetTopicAttributesRequest.class)))
+                .thenAnswer(invocation -> {
+                    final String topicArn = invocation.<SetTopicAttributesRequest>getArgument(0).topicArn();
+                    if (writes.merge(topicArn, 1, Integer::sum) == 1 && topicArn.endsWith("my-topic2")) {
+                        throw exception;
+                    }
+                    return SetTopicAttributesResponse.builder().build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel> builder()
+                .desiredResourceState(desiredResourceState)
+                .previousResourceState(previousResourceState)
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getPolicyWrittenTopics()).containsExactly("arn:aws:sns:us-east-1:123456789:my-topic3");
+        assertThat(response.getCallbackContext().getDefaultPolicyWrittenTopics()).containsExactly("arn:aws:sns:us-east-1:123456789:my-topic1");
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(writes.get("arn:aws:sns:us-east-1:123456789:my-topic1")).isEqualTo(1);
+        assertThat(writes.get("arn:aws:sns:us-east-1:123456789:my-topic2")).isEqualTo(2);
+        assertThat(writes.get("arn:aws:sns:us-east-1:123456789:my-topic3")).isEqualTo(1);
+    }
+
     @Test
     public void handleRequest_Failure_PolicyNullOrEmpty() {
         final List<String> topics = new ArrayList<>();